@@ -48,6 +48,36 @@ tasks.named<JavaExec>("run") {
         "-Daurora.project.root=${project.projectDir}")
 }
 
+// Dedicated server with Aurora mods; no Microsoft login. Plays in run/server, which is
+// also the working directory the server reads server.properties and eula.txt from.
+//   ./gradlew runServer -PserverArgs="-- --port 25566"
+tasks.register<JavaExec>("runServer") {
+    group = "application"
+    description = "Launches the dedicated server through the Aurora pipeline"
+    dependsOn(tasks.jar)
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("dev.badkraft.aurora.Loader")
+    val runDir = project.file("run/server")
+    workingDir = runDir
+    doFirst { runDir.mkdirs() }
+    // long-lived, throughput-bound: pre-touched heap, short G1 pauses, no System.gc() from plugins
+    jvmArgs = listOf(
+        "-javaagent:${layout.buildDirectory.file("libs/aurora-mvp.jar").get().asFile}",
+        "-Daurora.project.root=${project.projectDir}",
+        "-Daurora.instance=server",
+        "-Djava.awt.headless=true",
+        "-Xms${project.findProperty("serverHeap") ?: "4G"}",
+        "-Xmx${project.findProperty("serverHeap") ?: "4G"}",
+        "-XX:+UseG1GC",
+        "-XX:MaxGCPauseMillis=50",
+        "-XX:+ParallelRefProcEnabled",
+        "-XX:+AlwaysPreTouch",
+        "-XX:+DisableExplicitGC",
+        "-XX:+PerfDisableSharedMem")
+    args = listOf("--server") +
+        ((project.findProperty("serverArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList())
+}
+
 tasks.jar {
     manifest {
         attributes["Premain-Class"] = "dev.badkraft.aurora.agent.RuntimeAgent"
@@ -56,6 +86,55 @@ tasks.jar {
     }
 }
 
+// Offline login/refresh benchmark against the in-process auth stub.
+//   ./gradlew authBenchmark -PauthBenchArgs="--iterations 200 --latency 40 --error-rate 0.02"
+tasks.register<JavaExec>("authBenchmark") {
+    group = "verification"
+    description = "Benchmarks Microsoft/Xbox/Minecraft auth against a local stub server"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("dev.badkraft.aurora.auth.AuthBenchmark")
+    jvmArgs = listOf("-Daurora.project.root=${project.projectDir}")
+    args = (project.findProperty("authBenchArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+// End-to-end launcher startup against generated stand-in installs, one fresh JVM per launch.
+//   ./gradlew startupBenchmark -PstartupBenchArgs="--jars 100,500,1000 --classes 50 --runs 5"
+tasks.register<JavaExec>("startupBenchmark") {
+    group = "verification"
+    description = "Times each launcher startup phase against a synthetic Minecraft install"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("dev.badkraft.aurora.StartupBenchmark")
+    jvmArgs = listOf("-Daurora.project.root=${project.projectDir}")
+    args = (project.findProperty("startupBenchArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+// JMH micro-benchmarks for the launcher's hot paths (src/jmh/java).
+// Results land in build/reports/jmh/results.json; keep one per release to compare.
+//   ./gradlew jmh
+//   ./gradlew jmh -PjmhArgs="MappingBuilder -p classes=10000 -f 2"
+val jmh: SourceSet by sourceSets.creating
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
+dependencies {
+    "jmhImplementation"(sourceSets.main.get().output)
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks and writes JSON results"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    // forks inherit these; keeps benchmark logs and caches out of run/
+    jvmArgs = listOf("-Daurora.project.root=${layout.buildDirectory.dir("jmh").get().asFile}")
+    args = listOf("-rf", "json", "-rff", results.path) +
+        ((project.findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList())
+    doFirst { results.parentFile.mkdirs() }
+}
+
 tasks.clean {
     doFirst {
         fileTree("logs").matching {
@@ -0,0 +1,102 @@
+/// src/jmh/java/dev/badkraft/aurora/LoaderBenchmark.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora;
+
+import dev.badkraft.aurora.install.SyntheticInstall;
+import dev.badkraft.aurora.utils.AuroraLogger;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/// `extractValue` over a config-sized AML document, and the warm path of
+/// building the classpath from a version JSON: parse, filter libraries for the
+/// platform, verify each against the hash cache.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoaderBenchmark {
+
+    /// Vanilla 1.21.10 lists a little over a hundred libraries.
+    @Param({"120"})
+    public int libraries;
+
+    private static final String CONFIG = """
+            #!aml
+            // config.aurora
+            auth := {
+                access_token  := "eyJhbGciOiJIUzI1NiJ9.%s"
+                refresh_token := "M.C507_BAY.0.U.%s"
+                expires_at    := "1767225600000"
+                username      := "Badkraft"
+                uuid          := "069a79f444e94726a5befca90e38aaf5"
+                xuid          := "2535428504476914"
+                client_id     := "00000000402b5328"
+            }
+            """.formatted("x".repeat(600), "y".repeat(300));
+
+    private Path install;
+    private Path versionJson;
+    private PrintStream console;
+
+    @Setup
+    public void setup() throws Exception {
+        AuroraLogger.info("Benchmark setup"); // initializes the aurora.* directory properties
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        install = Files.createTempDirectory("aurora-install");
+        versionJson = SyntheticInstall.generate(install,
+                new SyntheticInstall.Spec(libraries, 4, 0, 0, null)).versionJson();
+
+        // first pass hashes everything; the benchmark measures the cached launches after it
+        buildClasspath();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setOut(console);
+        try (Stream<Path> walk = Files.walk(install)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) Files.delete(path);
+        }
+    }
+
+    @Benchmark
+    public String extractValue() {
+        return Loader.extractValue(CONFIG, "uuid");
+    }
+
+    @Benchmark
+    public String buildClasspath() throws Exception {
+        return Loader.buildClasspathFromVersionJson(versionJson, install, false);
+    }
+}
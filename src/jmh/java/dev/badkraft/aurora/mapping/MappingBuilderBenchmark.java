@@ -0,0 +1,84 @@
+/// src/jmh/java/dev/badkraft/aurora/mapping/MappingBuilderBenchmark.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.mapping;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// ProGuard class-map parsing over a synthetic mapping shaped like Mojang's
+/// `client.txt`: ~10k classes, a few dozen members each, indented member lines.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBuilderBenchmark {
+
+    @Param({"1000", "10000"})
+    public int classes;
+
+    @Param({"40"})
+    public int membersPerClass;
+
+    private List<String> lines;
+
+    @Setup
+    public void setup() {
+        lines = new ArrayList<>(classes * (membersPerClass + 1) + 2);
+        lines.add("# {\"fileName\":\"client.txt\",\"id\":\"sourceFile\"}");
+        lines.add("# compiler: R8");
+        for (int c = 0; c < classes; c++) {
+            String pkg = "net.minecraft.world.level.block" + (c % 64 == 0 ? "" : ".p" + (c % 64));
+            lines.add(pkg + ".Block" + c + " -> " + obf(c) + ":");
+            for (int m = 0; m < membersPerClass; m++) {
+                if (m % 4 == 0) {
+                    lines.add("    int field" + m + " -> " + obf(m));
+                } else {
+                    int line = m * 7;
+                    lines.add("    " + line + ":" + (line + 5) + ":void method" + m
+                            + "(int,java.lang.String," + pkg + ".Block" + c + ") -> " + obf(m));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> parseProGuardClassMap() {
+        return MappingBuilder.parseProGuardClassMap(lines);
+    }
+
+    /// `a`, `b`, ... `aa`, `ab` — the short names R8 hands out.
+    private static String obf(int index) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.insert(0, (char) ('a' + index % 26));
+            index = index / 26 - 1;
+        } while (index >= 0);
+        return name.toString();
+    }
+}
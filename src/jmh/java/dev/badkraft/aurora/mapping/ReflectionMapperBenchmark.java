@@ -0,0 +1,101 @@
+/// src/jmh/java/dev/badkraft/aurora/mapping/ReflectionMapperBenchmark.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.mapping;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// Cost of pushing script fields through mapped setters, and of turning
+/// mapping descriptors into [java.lang.invoke.MethodType]s at load.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionMapperBenchmark {
+
+    /// Stand-in for a mapped Minecraft class; handles are keyed by simple name.
+    public static final class Block {
+        float hardness;
+        int luminance;
+        String name;
+
+        public void hardness(Float value) { hardness = value; }
+        public void luminance(Integer value) { luminance = value; }
+        public void name(String value) { name = value; }
+    }
+
+    /// A spread of shapes seen in the 1.21 mappings: primitives, objects, arrays.
+    private static final String[] DESCRIPTORS = {
+            "()V",
+            "(I)Z",
+            "(Ljava/lang/String;)Ljava/lang/Object;",
+            "(IIIF)V",
+            "(Ljava/lang/String;I[J)V",
+            "([Ljava/lang/Object;Ljava/util/List;D)Ljava/lang/String;",
+            "(JJ[[ILjava/util/Map;)J",
+    };
+
+    private final Block target = new Block();
+    private final Map<String, Object> fields = new LinkedHashMap<>();
+
+    @Setup
+    public void setup() throws Exception {
+        String owner = Block.class.getName();
+        Path mappings = Files.createTempFile("aurora-mappings", ".txt");
+        try {
+            Files.write(mappings, List.of(
+                    "method " + owner + "(Ljava/lang/Float;)V -> hardness",
+                    "method " + owner + "(Ljava/lang/Integer;)V -> luminance",
+                    "method " + owner + "(Ljava/lang/String;)V -> name"));
+            ReflectionMapper.buildCache(mappings);
+        } finally {
+            Files.deleteIfExists(mappings);
+        }
+        fields.put("hardness", 3.0f);
+        fields.put("luminance", 7);
+        fields.put("name", "titanium_ore");
+    }
+
+    @Benchmark
+    public Block apply() {
+        ReflectionMapper.apply(target, fields);
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(7)
+    public void descriptorToMethodType(Blackhole bh) throws ClassNotFoundException {
+        for (String descriptor : DESCRIPTORS) {
+            bh.consume(ReflectionMapper.descriptorToMethodType(descriptor));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/// src/main/java/dev/badkraft/aurora/InstanceLauncher.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora;
+
+import dev.badkraft.aurora.auth.MinecraftAuth;
+import dev.badkraft.aurora.auth.SessionManager;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static dev.badkraft.aurora.Loader.MC_VERSION;
+import static dev.badkraft.aurora.Loader.log;
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.Directories.*;
+
+/// `--instances N`: one launcher process, N game JVMs.
+///
+/// The launcher does the shared work once — session, library verification
+/// and natives, asset check, mapping index, block models and mod asset pack —
+/// and records the resolved launch in a [dev.badkraft.aurora.install.LaunchImage].
+/// Each instance is then started with the launcher's own JVM options and agent, plus:
+///  - `-Daurora.instance=instance-<n>` — plays in `run/instance-<n>`, logs to
+///    `run/aurora/logs/instance-<n>`; `run/aurora` (mods, caches) stays shared
+///  - `-Daurora.launch.image` — maps the image instead of re-verifying
+///  - `-Daurora.assets.pack` — maps the mod asset pack instead of rebuilding it
+///    (left out with `--vanilla`)
+///  - a CDS archive under the cache: the first instance records it at exit
+///    (`-XX:+AutoCreateSharedArchive`), every later launch maps it
+///
+/// The mapping index, the ProGuard text it points into, the launch image, the
+/// asset pack and the CDS archive are all mapped read-only, so the page cache holds one copy
+/// for the whole host. Instance output goes to `run/<instance>/launcher.log`.
+/// `-Daurora.instance.prefix` changes the `instance-` prefix.
+/// With `-Daurora.metrics.port=<p>`, instance `n` serves its metrics on `p + n`.
+final class InstanceLauncher {
+    private static final List<String> OWN_OPTIONS = List.of(
+            "-Daurora.instance=", "-Daurora.launch.image=", "-Daurora.project.root=", "-Daurora.auth.config=",
+            "-Daurora.metrics.port=", "-Daurora.assets.pack=",
+            "-XX:SharedArchiveFile=", "-XX:+AutoCreateSharedArchive", "-XX:ArchiveClassesAtExit=");
+
+    private InstanceLauncher() {}
+
+    /// Starts `count` instances and waits for all of them. Returns how many exited non-zero.
+    static int launch(int count, String[] args, boolean repairLibraries, boolean vanilla) throws Exception {
+        log("Multi-instance launch: %d instances of %s", count, MC_VERSION);
+        // one refresh (or login) here instead of N racing ones; instances read the result from config.aurora
+        SessionManager.get().start();
+        SessionManager.get().awaitSession();
+
+        Path shared = CACHE_DIR.resolve("shared");
+        Path image = shared.resolve("launch-" + MC_VERSION + ".img");
+        Loader.prepareSharedLaunch(image, repairLibraries, vanilla);
+        Path archive = shared.resolve("aurora-" + MC_VERSION + "-java" + Runtime.version().feature() + ".jsa");
+        // CDS refuses class directories on the classpath (e.g. `gradle run`); only a jar launch can archive
+        boolean cds = Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .allMatch(entry -> entry.endsWith(".jar"));
+        boolean archived = cds && Files.isRegularFile(archive);
+        log("Shared launch image %s; CDS archive %s", image,
+                !cds ? "disabled (classpath has directories)" : archived ? archive : "recorded by the first instance");
+
+        List<String> jvm = new ArrayList<>();
+        jvm.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (String option : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (OWN_OPTIONS.stream().noneMatch(option::startsWith)) jvm.add(option);
+        }
+        jvm.add("-Daurora.project.root=" + ROOT_DIR);
+        jvm.add("-Daurora.auth.config=" + MinecraftAuth.configFile().toAbsolutePath());
+        jvm.add("-Daurora.launch.image=" + image);
+        if (!vanilla) jvm.add("-Daurora.assets.pack=" + Loader.ASSET_PACK.toAbsolutePath());
+
+        List<String> gameArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--instances".equals(args[i])) i++;
+            else gameArgs.add(args[i]);
+        }
+
+        // our own endpoint keeps the base port; instance n serves on base + n
+        Integer metricsPort = Integer.getInteger("aurora.metrics.port");
+        String prefix = System.getProperty("aurora.instance.prefix", "instance-");
+        List<Process> processes = new ArrayList<>(count);
+        List<String> names = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            String name = prefix + n;
+            Path runDir = RUN_DIR.getParent().resolve(name);
+            Files.createDirectories(runDir);
+
+            List<String> command = new ArrayList<>(jvm);
+            command.add("-Daurora.instance=" + name);
+            if (metricsPort != null) command.add("-Daurora.metrics.port=" + (metricsPort + n));
+            if (cds && n == 1) {
+                // checks the archive against this JDK and classpath; dumps a fresh one at exit if it doesn't fit
+                command.add("-XX:+AutoCreateSharedArchive");
+                command.add("-XX:SharedArchiveFile=" + archive);
+            } else if (archived) {
+                command.add("-XX:SharedArchiveFile=" + archive);
+            }
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(Loader.class.getName());
+            command.addAll(gameArgs);
+
+            Path output = runDir.resolve("launcher.log");
+            processes.add(new ProcessBuilder(command)
+                    // same working directory as ours, so relative paths resolve alike
+                    .directory(Paths.get("").toAbsolutePath().toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.appendTo(output.toFile()))
+                    .start());
+            names.add(name);
+            log("Started %s (pid %d) -> %s", name, processes.getLast().pid(), output);
+        }
+
+        int failed = 0;
+        for (int i = 0; i < processes.size(); i++) {
+            int exit = processes.get(i).waitFor();
+            if (exit != 0) {
+                failed++;
+                error("Instance %s exited with %d", names.get(i), exit);
+            } else {
+                log("Instance %s exited", names.get(i));
+            }
+        }
+        SessionManager.get().stop();
+        return failed;
+    }
+}
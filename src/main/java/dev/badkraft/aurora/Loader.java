@@ -22,28 +22,56 @@
 /// SOFTWARE.
 package dev.badkraft.aurora;
 
-import dev.badkraft.aurora.auth.MinecraftAuth;
+import dev.badkraft.aurora.agent.RuntimeAgent;
+import dev.badkraft.aurora.auth.Session;
+import dev.badkraft.aurora.auth.SessionManager;
 import com.google.gson.*;
+import dev.badkraft.aurora.install.AssetVerifier;
+import dev.badkraft.aurora.install.HashCache;
+import dev.badkraft.aurora.install.LaunchImage;
+import dev.badkraft.aurora.install.Library;
+import dev.badkraft.aurora.install.LibraryDownloader;
+import dev.badkraft.aurora.install.LibraryVerifier;
+import dev.badkraft.aurora.install.NativesExtractor;
+import dev.badkraft.aurora.install.Platform;
+import dev.badkraft.aurora.install.ServerBundle;
 import dev.badkraft.aurora.mapping.MappingBuilder;
-import dev.badkraft.anvil.api.*;
+import dev.badkraft.aurora.mapping.MappingIndex;
+import dev.badkraft.aurora.mapping.ProGuardMappings;
+import dev.badkraft.aurora.metrics.Metrics;
+import dev.badkraft.aurora.metrics.MetricsServer;
+import dev.badkraft.aurora.mods.BlockDefinition;
+import dev.badkraft.aurora.mods.HotReloadManager;
+import dev.badkraft.aurora.mods.ModRegistry;
+import dev.badkraft.aurora.mods.RecipeDefinition;
+import dev.badkraft.aurora.recipe.RecipeIndex;
+import dev.badkraft.aurora.resources.BlockModelGenerator;
+import dev.badkraft.aurora.resources.VirtualResourcePack;
 
 import java.io.*;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 import static dev.badkraft.aurora.utils.AuroraLogger.debug;
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
 import static dev.badkraft.aurora.utils.AuroraLogger.info;
 import static dev.badkraft.aurora.utils.Directories.*;
 
 public class Loader {
-    private static final String AMVP_VERSION = "0.3.1";
+    public  static final String AMVP_VERSION = "0.3.1";
     public  static final String MC_VERSION = "1.21.10";
     private static final Gson GSON = new GsonBuilder().create();
     private static final boolean DEBUG = Boolean.getBoolean("aurora.debug");
     private static final String AURORA_MAPPINGS = MAPPINGS_DIR.resolve("mc-" + MC_VERSION + "-official.aurora").toString();
+    /// Mod assets packed by [#buildModAssets]; the instances of a multi-instance launch all map this one.
+    static final Path ASSET_PACK = CACHE_DIR.resolve("aurora-assets.pack");
 
     // Logging
     public static void log(String msg, Object ... args) {
@@ -53,18 +81,42 @@ public class Loader {
     public static void main(String[] args) throws Exception {
         boolean vanilla = false;
         boolean buildMaps = false;
+        boolean mapsRequested = false;
+        boolean hotReload = false;
+        boolean repairLibraries = false;
+        boolean server = false;
+        int instances = 0;
+        List<String> serverArgs = new ArrayList<>();
         Path mappingsFile = Paths.get(AURORA_MAPPINGS);
         boolean hasMappings = Files.exists(mappingsFile);
 
+        MetricsServer.startFromSystemProperties();
+
         // Validate system properties
         log("minecraft.version: %s", System.getProperty("minecraft.version"));
         log("minecraft.client.version: %s", System.getProperty("minecraft.client.version"));
         log("mc.version: %s", System.getProperty("mc.version"));
         log("mcp.version: %s", System.getProperty("mcp.version"));
 
-        for (String arg : args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
             if ("--vanilla".equals(arg)) vanilla = true;
             if ("--build-maps".equals(arg)  || !hasMappings) buildMaps = true;
+            if ("--build-maps".equals(arg)) mapsRequested = true;
+            if ("--hot-reload".equals(arg)) hotReload = true;
+            if ("--repair-libraries".equals(arg)) repairLibraries = true;
+            if ("--instances".equals(arg)) instances = instanceCount(args, ++i);
+            if ("--server".equals(arg)) server = true;
+            if ("--".equals(arg)) {
+                // everything after `--` goes to the game untouched (e.g. `--port 25566`)
+                serverArgs.addAll(Arrays.asList(args).subList(i + 1, args.length));
+                break;
+            }
+        }
+        if (server) {
+            // the server is mapped through its own ProGuard file (see launchServer), not the client
+            // .aurora mappings; a server host needs neither .minecraft nor a --build-maps pass first
+            buildMaps = mapsRequested;
         }
 
         Path dotMinecraft = DOT_MINECRAFT_DIR;
@@ -93,9 +145,26 @@ public class Loader {
             }
         }
 
+        if (server) {
+            // --server: dedicated server; no Microsoft session, no client libraries or assets
+            if (instances > 0) throw new IllegalArgumentException("--instances is not supported with --server");
+            if (!vanilla) loadMods(hotReload);
+            launchServer(serverArgs);
+            return;
+        }
+
+        if (instances > 0) {
+            // --instances N: this process only prepares and supervises; each game gets its own JVM
+            int failed = InstanceLauncher.launch(instances, args, repairLibraries, vanilla);
+            if (failed > 0) {
+                throw new IllegalStateException(failed + " of " + instances + " instance(s) exited abnormally");
+            }
+            return;
+        }
+
         if (vanilla) {
             // --vanilla: launch clean Minecraft
-            launchMinecraft();
+            launchMinecraft(repairLibraries);
             return;
         }
 
@@ -110,18 +179,143 @@ public class Loader {
         // TODO: Load mappings into MethodHandle cache when ready
         // ReflectionMapper.buildCache(mappingsFile);
 
-        launchMinecraft();
+        loadMods(hotReload);
+        launchMinecraft(repairLibraries);
+    }
+
+    /// The count following `--instances`, at `args[i]`.
+    private static int instanceCount(String[] args, int i) {
+        String usage = "Usage: --instances <count>, count a whole number from 1 up";
+        if (i >= args.length) throw new IllegalArgumentException("--instances needs a count. " + usage);
+        try {
+            int count = Integer.parseInt(args[i]);
+            if (count < 1) throw new IllegalArgumentException("--instances " + count + " starts nothing. " + usage);
+            return count;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--instances " + args[i] + " is not a count. " + usage);
+        }
     }
 
-    private static void launchMinecraft() throws Exception {
+    static void loadMods(boolean hotReload) throws Exception {
+        ModRegistry registry = ModRegistry.get();
+        registry.loadAll(MODS_DIR);
+        BlockModelGenerator models = modelGenerator();
+        VirtualResourcePack pack = VirtualResourcePack.get();
+        String sharedPack = System.getProperty("aurora.assets.pack");
+        if (sharedPack != null) {
+            // an instance of --instances: the launcher already generated the models and built the pack
+            pack.map(assetRoots(models.root()), Paths.get(sharedPack));
+        } else {
+            buildModAssets(registry, models);
+        }
+        RecipeIndex recipes = RecipeIndex.get();
+        recipes.rebuild(registry.recipes());
+        if (hotReload) {
+            registry.addListener(new ModRegistry.Listener() {
+                // a full pass only rewrites what actually differs
+                @Override
+                public void blockAdded(BlockDefinition block) {
+                    regenerate();
+                }
+                @Override
+                public void blockChanged(BlockDefinition previous, BlockDefinition current) {
+                    regenerate();
+                }
+                @Override
+                public void blockRemoved(BlockDefinition block) {
+                    regenerate();
+                }
+                @Override
+                public void recipeAdded(RecipeDefinition recipe) {
+                    index(recipe);
+                }
+                @Override
+                public void recipeChanged(RecipeDefinition previous, RecipeDefinition current) {
+                    index(current);
+                }
+                @Override
+                public void recipeRemoved(RecipeDefinition recipe) {
+                    recipes.remove(recipe.fullId());
+                }
+                private void index(RecipeDefinition recipe) {
+                    try {
+                        recipes.add(recipe);
+                    } catch (IllegalArgumentException e) {
+                        error("Recipe %s not indexed: %s", recipe.fullId(), e.getMessage());
+                    }
+                }
+                private void regenerate() {
+                    try {
+                        pack.invalidate(models.generate(registry.blocks()).changed());
+                    } catch (IOException e) {
+                        error("Block model generation failed: %s", e);
+                    }
+                }
+            });
+            // lives for the whole game session; the watcher thread is a daemon
+            HotReloadManager hotReloader = new HotReloadManager(registry, MODS_DIR, ASSETS_DIR);
+            hotReloader.onAssetsChanged(pack::invalidate);
+            hotReloader.start();
+        }
+    }
+
+    private static BlockModelGenerator modelGenerator() throws IOException {
+        return new BlockModelGenerator(
+                CACHE_DIR.resolve("generated").resolve("assets"),
+                HashCache.load(CACHE_DIR.resolve("generated-hashes.tsv")));
+    }
+
+    /// Generates the block models of every loaded block and packs them with the mods' own assets.
+    private static void buildModAssets(ModRegistry registry, BlockModelGenerator models) throws IOException {
+        models.generate(registry.blocks());
+        VirtualResourcePack.get().build(assetRoots(models.root()), ASSET_PACK);
+    }
+
+    /// Generated models first, so anything hand-written wins; then each mod's own
+    /// `assets/` folder, then the shared assets tree, which overrides them.
+    private static List<VirtualResourcePack.Root> assetRoots(Path generated) throws IOException {
+        List<VirtualResourcePack.Root> roots = new ArrayList<>();
+        roots.add(new VirtualResourcePack.Root(generated, "assets/"));
+        if (Files.isDirectory(MODS_DIR)) {
+            try (var mods = Files.list(MODS_DIR)) {
+                for (Path mod : mods.sorted().toList()) {
+                    Path assets = mod.resolve("assets");
+                    if (Files.isDirectory(assets)) roots.add(new VirtualResourcePack.Root(assets, "assets/"));
+                }
+            }
+        }
+        roots.add(new VirtualResourcePack.Root(ASSETS_DIR, "assets/"));
+        return roots;
+    }
+
+    static void launchMinecraft(boolean repairLibraries) throws Exception {
         log("Minecraft: Aurora :: Launcher %s+%s", AMVP_VERSION, MC_VERSION);
+        STARTUP_PHASES.clear();
+        long t = System.nanoTime();
+        // load or refresh the session while the classpath is being built
+        SessionManager.get().start();
+        t = phase("session", t);
 
         // Build paths, symlink assets, get minecraft.jar
         LaunchPaths paths = LaunchPaths.build();
-        String classpath = buildClasspathFromVersionJson(paths.versionJson(), paths.dotMinecraft());
+        t = phase("paths", t);
+        // an instance of a multi-instance launch reuses what the launcher already verified
+        LaunchImage image = sharedLaunchImage(paths);
+        // hashing assets is independent of the classpath; overlap the two
+        Thread assetCheck = image != null ? null
+                : Thread.ofVirtual().name("Aurora-Assets").start(() -> verifyAssets(paths));
+        String classpath;
+        if (image != null) {
+            classpath = String.join(":", image.classpath());
+            useNatives(image.nativesPath());
+            log("Using shared launch image: %d classpath entries", image.classpath().size());
+        } else {
+            classpath = buildClasspathFromVersionJson(paths.versionJson(), paths.dotMinecraft(), repairLibraries);
+        }
         String[] entries = classpath.split(":");
         log("Classpath appended %d entries]", entries.length);
         debug("Classpath entries: %s", Arrays.toString(entries));
+        t = phase("classpath", t);
 
         // Build classloader
         List<URL>urls = new ArrayList<>();
@@ -129,9 +323,15 @@ public class Loader {
             urls.add(new File(path).toURI().toURL());
         }
        URLClassLoader auroraMCLoader = getAuroraClassLoader(urls);
+        t = phase("classloader", t);
 
         // Build launch args
         List<String> launchArgs = buildLaunchArgs(paths, auroraMCLoader);
+        t = phase("launch args", t);
+        if (assetCheck != null) assetCheck.join();
+        t = phase("assets", t);
+        log("Startup phases: %s", STARTUP_PHASES.entrySet().stream()
+                .map(e -> e.getKey() + " " + e.getValue() / 1_000_000 + "ms").toList());
         // Launch Minecraft
         log("Launching ...");
         try{
@@ -145,66 +345,204 @@ public class Loader {
 
             e.printStackTrace();
         }
+        phase("main", t);
     }
-    private record Session(
-            String accessToken,
-            String username,
-            String uuid,
-            String clientId,
-            String xuId) {}
-    private static Session loadSession() throws Exception {
-        Path config = Paths.get("config.aurora");
-        // if config.aurora does not exist, perform login
-        if (!Files.exists(config)) {
-            log("No login found. Starting MS Login ...");
-            MinecraftAuth.loginAndSave(); // TODO: Re-enable when ready
-        }
-
-        // and the file will be created
-        AnvilModule module = Anvil.parse(config);
-        AnvilObject auth = module.getObject("auth").asObject();
-
-        String expiresAtStr = auth.getString("expires_at");
-        if (expiresAtStr != null) {
-            // this step is the first time we need to persist changes back to config.aurora
-            long expiresAt = Long.parseLong(expiresAtStr);
-            long now = System.currentTimeMillis() / 1000;
-            if (now >= expiresAt) {
-                log("Token expired. Refreshing...");
-                MinecraftAuth.refreshSession();
-                // this is where we need to be able to update the value and save
-                //content = Files.readString(config); // Re-read after refresh
-            }
+
+    /// Starts the dedicated server with the same classloader and mods as the
+    /// client, minus everything that needs a player: no session, no client
+    /// libraries or natives, no assets. The tick profiler and hooks are mapped
+    /// through the server's own ProGuard mappings; the tick profiler is on
+    /// unless `-Daurora.tickProfiler=false`.
+    ///
+    /// The server reads `server.properties`, `eula.txt` and friends from the
+    /// process working directory, so launch from `run/<instance>` (the
+    /// `runServer` task does); worlds go to `run/<instance>` either way.
+    static void launchServer(List<String> extraArgs) throws Exception {
+        log("Minecraft: Aurora :: Server %s+%s", AMVP_VERSION, MC_VERSION);
+        STARTUP_PHASES.clear();
+        long t = System.nanoTime();
+        System.setProperty("java.awt.headless", "true");
+
+        Path serverDir = CACHE_DIR.resolve("server");
+        Path installed = DOT_MINECRAFT_DIR == null ? null
+                : DOT_MINECRAFT_DIR.resolve("versions").resolve(MC_VERSION).resolve(MC_VERSION + ".json");
+        HashCache hashes = HashCache.load(CACHE_DIR.resolve("library-hashes.tsv"));
+        ServerBundle.Launch launch = ServerBundle.resolve(installed, MC_VERSION, serverDir, hashes);
+        t = phase("server jar", t);
+
+        // the server jar has its own obfuscation; the client mappings the agent started with don't fit it
+        Path serverMappings = null;
+        try {
+            serverMappings = ServerBundle.mappings(installed, MC_VERSION, serverDir, hashes);
+        } catch (IOException e) {
+            error("Server mappings unavailable: %s", e);
+        }
+        hashes.save();
+        if (RuntimeAgent.useServerMappings(serverMappings)) log("Tick profiler enabled for the dedicated server");
+        t = phase("server mappings", t);
+
+        List<URL> urls = new ArrayList<>();
+        for (Path entry : launch.classpath()) {
+            urls.add(entry.toUri().toURL());
         }
+        URLClassLoader auroraMCLoader = getAuroraClassLoader(urls);
+        t = phase("classloader", t);
 
-        return new Session(
-                auth.getString("access_token"),
-                auth.getString("username"),
-                auth.getString("uuid").replace("-", ""),
-                auth.getString("client_id"),
-                auth.getString("xuid")
-        );
+        Files.createDirectories(RUN_DIR);
+        Path workingDir = Paths.get("").toAbsolutePath();
+        if (!workingDir.equals(RUN_DIR)) {
+            log("Server config is read from the working directory %s, not %s", workingDir, RUN_DIR);
+        }
+        List<String> launchArgs = new ArrayList<>(List.of("--nogui", "--universe", RUN_DIR.toString()));
+        launchArgs.addAll(extraArgs);
+        log("Server args: %s", launchArgs);
+        log("Startup phases: %s", STARTUP_PHASES.entrySet().stream()
+                .map(e -> e.getKey() + " " + e.getValue() / 1_000_000 + "ms").toList());
+
+        log("Launching server ...");
+        try {
+            Class<?> mainClass = auroraMCLoader.loadClass(launch.mainClass());
+            Method mainMethod = mainClass.getMethod("main", String[].class);
+            mainMethod.invoke(null, (Object) launchArgs.toArray(new String[0]));
+        } catch (Exception e) {
+            error(e, "Exception during server launch");
+        }
+        phase("main", t);
     }
-    private static String buildClasspathFromVersionJson(Path versionJson, Path dotMinecraft) throws Exception {
+
+    /// Wall time of each phase of the last [#launchMinecraft], in order. `main`
+    /// is recorded only once the game returns.
+    static final Map<String, Long> STARTUP_PHASES = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private static final LongAdder CLASSES_DEFINED = new LongAdder();
+    private static final LongAdder CLASS_DEFINE_NANOS = new LongAdder();
+
+    static {
+        Metrics.register(out -> {
+            out.family("aurora_startup_phase_seconds", "gauge", "Wall time of each phase of the last launch");
+            synchronized (STARTUP_PHASES) {
+                STARTUP_PHASES.forEach((phase, nanos) -> out.sample("aurora_startup_phase_seconds", "phase", phase, nanos / 1e9));
+            }
+            out.single("aurora_game_classes_loaded_total", "counter", "Classes defined by the game class loader", CLASSES_DEFINED.sum());
+            out.single("aurora_game_class_load_seconds_total", "counter", "Time spent finding and defining game classes, transformers included", CLASS_DEFINE_NANOS.sum() / 1e9);
+            ClassLoadingMXBean jvm = ManagementFactory.getClassLoadingMXBean();
+            out.single("aurora_jvm_classes_loaded_total", "counter", "Classes loaded by the JVM since start", jvm.getTotalLoadedClassCount());
+            out.single("aurora_jvm_classes_unloaded_total", "counter", "Classes unloaded by the JVM since start", jvm.getUnloadedClassCount());
+        });
+    }
+
+    private static long phase(String name, long since) {
+        long now = System.nanoTime();
+        STARTUP_PHASES.put(name, now - since);
+        return now;
+    }
+    static String buildClasspathFromVersionJson(Path versionJson, Path dotMinecraft, boolean repair) throws Exception {
         JsonObject json = GSON.fromJson(Files.newBufferedReader(versionJson), JsonObject.class);
-        JsonArray libs = json.getAsJsonArray("libraries");
         List<String> cp = new ArrayList<>();
         cp.add(versionJson.getParent().resolve(MC_VERSION + ".jar").toString());
 
         Path libsDir = dotMinecraft.resolve("libraries");
-        for (JsonElement e : libs) {
-            JsonObject lib = e.getAsJsonObject();
-            if (!lib.has("downloads") || !lib.has("name")) continue;
-            JsonObject artifact = lib.getAsJsonObject("downloads").getAsJsonObject("artifact");
-            if (artifact == null) continue;
-            String path = artifact.get("path").getAsString();
-            Path libJar = libsDir.resolve(path);
-            if (Files.exists(libJar)) {
-                cp.add(libJar.toString());
+        List<Library> libraries = Library.fromVersionJson(json, Platform.current());
+        HashCache hashes = HashCache.load(CACHE_DIR.resolve("library-hashes.tsv"));
+        long start = System.nanoTime();
+        List<LibraryVerifier.Result> results = new LibraryVerifier(libsDir, hashes).verify(libraries);
+        log("Verified %d libraries in %dms (%d hashed, %d cached)", libraries.size(),
+                (System.nanoTime() - start) / 1_000_000, hashes.misses(), hashes.hits());
+        if (repair) {
+            results = LibraryDownloader.fromSystemProperties(libsDir, hashes).repair(results);
+        }
+        prepareNatives(results, hashes);
+        hashes.save();
+
+        List<String> damaged = new ArrayList<>();
+        for (LibraryVerifier.Result result : results) {
+            switch (result.status()) {
+                case OK -> cp.add(result.file().toString());
+                case MISSING -> {
+                    error("Library %s is not installed: %s", result.library().name(), result.file());
+                    damaged.add(result.library().name());
+                }
+                case WRONG_SIZE, CORRUPT -> {
+                    error("Library %s is damaged (%s): %s", result.library().name(), result.status(), result.file());
+                    damaged.add(result.library().name());
+                }
             }
         }
+        if (!damaged.isEmpty()) {
+            // with --repair-libraries these are the ones the download could not fix either
+            throw new IllegalStateException("Missing or damaged libraries " + damaged
+                    + (repair ? " — repair failed; see the errors above" : " — relaunch with --repair-libraries"));
+        }
         return String.join(":", cp);
     }
+    private static void verifyAssets(LaunchPaths paths) {
+        if (!Boolean.parseBoolean(System.getProperty("aurora.assets.verify", "true"))) return;
+        try {
+            JsonObject versionInfo = GSON.fromJson(Files.newBufferedReader(paths.versionJson()), JsonObject.class);
+            String assetIndex = versionInfo.getAsJsonObject("assetIndex").get("id").getAsString();
+            long start = System.nanoTime();
+            AssetVerifier.Report report;
+            try (AssetVerifier verifier = new AssetVerifier(paths.assetsRoot(), CACHE_DIR.resolve("asset-journal.tsv"))) {
+                report = verifier.verify(assetIndex);
+            }
+            log("Verified %d assets of index %s in %dms (%d hashed)", report.objects(), assetIndex,
+                    (System.nanoTime() - start) / 1_000_000, report.hashed());
+            if (!report.ok()) {
+                error("Asset index %s: %d missing, %d corrupt — expect missing sounds/textures. First few: %s",
+                        assetIndex, report.missing().size(), report.corrupt().size(),
+                        Stream.concat(report.missing().stream(), report.corrupt().stream()).limit(10).toList());
+            }
+        } catch (Exception e) {
+            error("Asset verification failed: %s", e);
+        }
+    }
+    private static void prepareNatives(List<LibraryVerifier.Result> libraries, HashCache hashes) throws IOException {
+        List<Path> dirs = new NativesExtractor(CACHE_DIR.resolve("natives"), hashes).extract(libraries);
+        if (dirs.isEmpty()) return;
+        useNatives(NativesExtractor.libraryPath(dirs));
+        log("Natives ready: %d directories", dirs.size());
+    }
+    private static void useNatives(String libraryPath) {
+        if (libraryPath.isEmpty()) return;
+        // LWJGL consults org.lwjgl.librarypath before unpacking its own copies to a temp dir
+        System.setProperty("org.lwjgl.librarypath", libraryPath);
+        String existing = System.getProperty("java.library.path", "");
+        System.setProperty("java.library.path", existing.isEmpty() ? libraryPath : libraryPath + File.pathSeparator + existing);
+    }
+
+    /// Everything the instances of a multi-instance launch can share, resolved
+    /// once: verified classpath and natives (written to `imageFile`), the asset
+    /// check, the mapping index and, unless `vanilla`, the generated block
+    /// models and the [#ASSET_PACK] the instances map.
+    static LaunchImage prepareSharedLaunch(Path imageFile, boolean repairLibraries, boolean vanilla) throws Exception {
+        if (!vanilla) {
+            ModRegistry registry = ModRegistry.get();
+            registry.loadAll(MODS_DIR);
+            buildModAssets(registry, modelGenerator());
+        }
+        LaunchPaths paths = LaunchPaths.build();
+        String classpath = buildClasspathFromVersionJson(paths.versionJson(), paths.dotMinecraft(), repairLibraries);
+        verifyAssets(paths);
+        LaunchImage image = new LaunchImage(List.of(classpath.split(":")), System.getProperty("org.lwjgl.librarypath"));
+        image.write(imageFile, paths.versionJson());
+        if (Files.exists(ProGuardMappings.DEFAULT_FILE)) {
+            log("Mapping index: %d classes", MappingIndex.open(ProGuardMappings.DEFAULT_FILE).size());
+        }
+        return image;
+    }
+    /// The image named by `-Daurora.launch.image`, if it still matches this version JSON.
+    private static LaunchImage sharedLaunchImage(LaunchPaths paths) {
+        String file = System.getProperty("aurora.launch.image");
+        if (file == null) return null;
+        try {
+            LaunchImage image = LaunchImage.read(Paths.get(file), paths.versionJson());
+            if (image == null) log("Shared launch image %s is stale; resolving the classpath here", file);
+            return image;
+        } catch (IOException e) {
+            error("Failed to read shared launch image %s: %s", file, e);
+            return null;
+        }
+    }
     private static void symlinkIfNeeded(Path link, Path target, String name) throws IOException {
         if (Files.exists(link)) {
             if (Files.isSymbolicLink(link) && Files.readSymbolicLink(link).equals(target)) return;
@@ -233,7 +571,7 @@ public class Loader {
         ClassLoader original = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(auroraMCLoader);
-            Session session = loadSession();
+            Session session = SessionManager.get().awaitSession();
 
             JsonObject versionInfo = GSON.fromJson(Files.newBufferedReader(paths.versionJson()), JsonObject.class);
             String assetIndex = versionInfo.getAsJsonObject("assetIndex").get("id").getAsString();
@@ -246,12 +584,12 @@ public class Loader {
                 switch (value) {
                     case "${version_name}"       -> args.set(i, MC_VERSION);
                     case "${version_type}"       -> args.set(i, "release");
-                    case "${auth_player_name}"   -> args.set(i, session.username.replace("\"", ""));
-                    case "${auth_uuid}"          -> args.set(i, session.uuid.replace("\"", ""));
-                    case "${auth_access_token}"  -> args.set(i, session.accessToken.replace("\"", ""));
+                    case "${auth_player_name}"   -> args.set(i, session.username().replace("\"", ""));
+                    case "${auth_uuid}"          -> args.set(i, session.uuid().replace("\"", ""));
+                    case "${auth_access_token}"  -> args.set(i, session.accessToken().replace("\"", ""));
                     case "${user_type}"          -> args.set(i, "msa");
                     case "${clientid}"           -> args.set(i, "00000000441cc96b");           // REQUIRED
-                    case "${auth_xuid}"          -> args.set(i, session.xuId.replace("\"", ""));            // optional but nice
+                    case "${auth_xuid}"          -> args.set(i, session.xuId().replace("\"", ""));            // optional but nice
                     case "${game_directory}"     -> args.set(i, paths.gameDir().toString());
                     case "${assets_root}"        -> args.set(i, paths.assetsRoot().toString()); // ← CORRECT
                     case "${assets_index_name}"  -> args.set(i, assetIndex);
@@ -332,6 +670,11 @@ public class Loader {
         URLClassLoader minecraftClassLoader = new URLClassLoader(allUrls.toArray(new URL[0]), null) {
             @Override
             protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                // one copy of Aurora: hooks injected into game classes must reach the same
+                // profiler, event bus and scheduler state as the launcher
+                if (name.startsWith("dev.badkraft.aurora.")) {
+                    return Loader.class.getClassLoader().loadClass(name);
+                }
                 if (name.startsWith("net.minecraft.") || name.startsWith("com.mojang.")) {
                     synchronized (getClassLoadingLock(name)) {
                         forceMinecraftVersion();
@@ -339,6 +682,16 @@ public class Loader {
                 }
                 return super.loadClass(name, resolve);
             }
+
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                // only classes defined here; parent delegation and cache hits never reach findClass
+                long start = System.nanoTime();
+                Class<?> c = super.findClass(name);
+                CLASS_DEFINE_NANOS.add(System.nanoTime() - start);
+                CLASSES_DEFINED.increment();
+                return c;
+            }
         };
 
         Thread.currentThread().setContextClassLoader(minecraftClassLoader);
@@ -361,9 +714,13 @@ public class Loader {
             System.setProperty("minecraft.version", MC_VERSION);
         }
     }
-    // extracts values from anvil model
+
+    private static final Map<String, java.util.regex.Pattern> VALUE_PATTERNS = new java.util.concurrent.ConcurrentHashMap<>();
+
+    // extracts values from anvil model; config.aurora itself goes through AuthStore
     public static String extractValue(String content, String key) {
-        var pattern = java.util.regex.Pattern.compile(key + "\\s*:=\\s*\"([^\"]+)\"");
+        var pattern = VALUE_PATTERNS.computeIfAbsent(key,
+                k -> java.util.regex.Pattern.compile(java.util.regex.Pattern.quote(k) + "\\s*:=\\s*\"([^\"]+)\""));
         var matcher = pattern.matcher(content);
         return matcher.find() ? matcher.group(1) : null;
     }
@@ -0,0 +1,219 @@
+/// src/main/java/dev/badkraft/aurora/StartupBenchmark.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora;
+
+import dev.badkraft.aurora.auth.AuthStore;
+import dev.badkraft.aurora.auth.Session;
+import dev.badkraft.aurora.install.SyntheticInstall;
+import dev.badkraft.aurora.mapping.MappingBuilder;
+import dev.badkraft.aurora.mapping.ProGuardMappings;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+import static dev.badkraft.aurora.utils.Directories.MAPPINGS_DIR;
+
+/// End-to-end launcher startup against a [SyntheticInstall], no game or account needed.
+///
+/// For each `--jars` size a stand-in `.minecraft` is generated, then the real
+/// pipeline — mappings, mods, session, classpath, classloader, launch
+/// arguments, asset check — runs `--runs` times, each in a fresh JVM so class
+/// loading and JIT are as cold as a real launch. The first run starts with
+/// empty hash caches; the rest are the warm launches players see day to day.
+/// `mappings` generates the `.aurora` mappings from the synthetic ProGuard
+/// file on the cold run, as a first launch does, then opens the mapped index.
+/// The synthetic `Main` loads every generated class through the game
+/// classloader, so `main` measures class loading at that scale.
+///
+/// ```
+/// ./gradlew startupBenchmark -PstartupBenchArgs="--jars 100,500,1000 --classes 50 --runs 5"
+/// ```
+///
+/// Options: `--jars list` (100,250,500,1000), `--classes N` per jar (20),
+/// `--game-classes N` (2000), `--assets N` (500), `--runs N` (3), `--keep`
+/// to leave the generated installs behind.
+public final class StartupBenchmark {
+    private static final String MARKER = "PHASE\t";
+    private static final String CLASSES_FILE = "classes.txt";
+    private static final String ENTRY_HOOK = "dev/badkraft/aurora/StartupBenchmark.mainEntered";
+
+    private static List<String> classes = List.of();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals("--child")) {
+            child(Paths.get(args[1]));
+            return;
+        }
+        List<Integer> sizes = List.of(100, 250, 500, 1000);
+        int classesPerJar = 20;
+        int gameClasses = 2000;
+        int assets = 500;
+        int runs = 3;
+        boolean keep = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--jars"         -> sizes = Arrays.stream(args[++i].split(",")).map(Integer::parseInt).toList();
+                case "--classes"      -> classesPerJar = Integer.parseInt(args[++i]);
+                case "--game-classes" -> gameClasses = Integer.parseInt(args[++i]);
+                case "--assets"       -> assets = Integer.parseInt(args[++i]);
+                case "--runs"         -> runs = Integer.parseInt(args[++i]);
+                case "--keep"         -> keep = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        info("Startup benchmark: %s jars x %d classes, %d game classes, %d assets, %d runs",
+                sizes, classesPerJar, gameClasses, assets, runs);
+        Path root = Files.createTempDirectory("aurora-startup");
+        try {
+            for (int jars : sizes) {
+                Path dir = root.resolve("jars-" + jars);
+                long start = System.nanoTime();
+                SyntheticInstall.Layout layout = SyntheticInstall.generate(dir.resolve(".minecraft"),
+                        new SyntheticInstall.Spec(jars, classesPerJar, gameClasses, assets, ENTRY_HOOK));
+                Files.write(dir.resolve(CLASSES_FILE), layout.classes());
+                info("Generated %d jars, %d classes in %dms -> %s", jars, layout.classes().size(),
+                        (System.nanoTime() - start) / 1_000_000, dir);
+
+                List<Map<String, Long>> results = new ArrayList<>();
+                for (int run = 0; run < runs; run++) results.add(launch(dir));
+                report(jars, layout.classes().size(), results);
+            }
+        } finally {
+            if (!keep) delete(root);
+        }
+    }
+
+    /// Runs one launch in a fresh JVM and collects the phases it reports.
+    private static Map<String, Long> launch(Path dir) throws IOException, InterruptedException {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(
+                java.toString(),
+                "-cp", System.getProperty("java.class.path"),
+                "-Daurora.project.root=" + dir,
+                "-Daurora.minecraft.dir=" + dir.resolve(".minecraft"),
+                "-Daurora.auth.config=" + dir.resolve("config.aurora"),
+                StartupBenchmark.class.getName(), "--child", dir.toString())
+                .redirectErrorStream(true)
+                .start();
+        Map<String, Long> phases = new LinkedHashMap<>();
+        Deque<String> tail = new ArrayDeque<>();
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (line.startsWith(MARKER)) {
+                    String[] parts = line.split("\t");
+                    phases.put(parts[1], Long.parseLong(parts[2]));
+                } else {
+                    tail.addLast(line);
+                    if (tail.size() > 20) tail.removeFirst();
+                }
+            }
+        }
+        int exit = process.waitFor();
+        if (exit != 0 || phases.isEmpty()) {
+            throw new IllegalStateException("Launch exited with " + exit + ":\n" + String.join("\n", tail));
+        }
+        return phases;
+    }
+
+    private static void report(int jars, int classCount, List<Map<String, Long>> runs) {
+        System.out.println();
+        System.out.printf("%d jars, %d classes%n", jars, classCount);
+        System.out.printf("%-14s %10s %10s %10s%n", "phase", "cold ms", "warm ms", "warm max");
+        for (String phase : runs.getFirst().keySet()) {
+            long[] warm = runs.stream().skip(1).mapToLong(r -> r.getOrDefault(phase, 0L)).sorted().toArray();
+            System.out.printf("%-14s %10.1f %10s %10s%n", phase, ms(runs.getFirst().get(phase)),
+                    warm.length == 0 ? "-" : "%.1f".formatted(ms(warm[warm.length / 2])),
+                    warm.length == 0 ? "-" : "%.1f".formatted(ms(warm[warm.length - 1])));
+        }
+    }
+
+    /// One launch, in the child JVM. Prints `PHASE name nanos` lines for the parent.
+    private static void child(Path dir) throws Exception {
+        Instant started = ProcessHandle.current().info().startInstant().orElse(Instant.now());
+        long begin = System.nanoTime();
+        Map<String, Long> phases = new LinkedHashMap<>();
+        phases.put("jvm", Duration.between(started, Instant.now()).toNanos());
+
+        // the logger brings up RuntimeAgent's directory properties, as it does under the agent
+        info("Synthetic launch from %s", dir);
+        classes = Files.readAllLines(dir.resolve(CLASSES_FILE));
+        long now = System.currentTimeMillis() / 1000;
+        AuthStore.get().update(state -> new AuthStore.State(
+                new Session("synthetic-access-token-0000000000", "Synthetic", "00000000000000000000000000000000",
+                        "00000000402b5328", "0", now + 86_400),
+                "synthetic-refresh-token", AuthStore.XboxTokens.NONE));
+
+        // as Loader.main: generate the mappings when missing (the cold run), then
+        // resolve through the mapped index the way the agent does on every launch
+        long t = System.nanoTime();
+        Path versionDir = dir.resolve(".minecraft").resolve("versions").resolve(Loader.MC_VERSION);
+        Path aurora = MAPPINGS_DIR.resolve("mc-" + Loader.MC_VERSION + "-official.aurora");
+        if (!Files.exists(aurora)) {
+            MappingBuilder.generateMappings(versionDir.resolve(Loader.MC_VERSION + ".jar"), versionDir.resolve("client.txt"), aurora);
+        }
+        ProGuardMappings.open(ProGuardMappings.DEFAULT_FILE, Set.of("net.minecraft.client.main.Main"));
+        phases.put("mappings", System.nanoTime() - t);
+
+        t = System.nanoTime();
+        Loader.loadMods(false);
+        phases.put("mods", System.nanoTime() - t);
+
+        Loader.launchMinecraft(false);
+        phases.putAll(Loader.STARTUP_PHASES);
+        phases.put("total", System.nanoTime() - begin + phases.get("jvm"));
+
+        phases.forEach((name, nanos) -> System.out.println(MARKER + name + "\t" + nanos));
+        System.out.flush();
+        // the session watcher and asset pools would otherwise outlive the launch
+        System.exit(0);
+    }
+
+    /// Called by the synthetic `net.minecraft.client.main.Main`: loads every
+    /// generated class through the game classloader.
+    public static void mainEntered(String[] args) throws ClassNotFoundException {
+        ClassLoader game = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+                .getCallerClass().getClassLoader();
+        for (String name : classes) Class.forName(name, true, game);
+        info("Synthetic Main: loaded %d classes, %d arguments", classes.size(), args.length);
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static void delete(Path root) throws IOException {
+        try (var walk = Files.walk(root)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(path);
+        }
+    }
+}
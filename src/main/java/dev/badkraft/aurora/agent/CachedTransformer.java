@@ -0,0 +1,56 @@
+/// src/main/java/dev/badkraft/aurora/agent/CachedTransformer.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+
+/// A define-time transformer whose output depends only on the class bytes and
+/// its own configuration, so [CachingTransformer] may replay it from disk.
+interface CachedTransformer extends ClassFileTransformer {
+    /// Name, version and configuration. Anything that can change the output
+    /// must be in here — a different fingerprint is a different cache.
+    String fingerprint();
+
+    /// Whether `className` (internal form) could be changed at all; others skip the cache entirely.
+    boolean targets(String className);
+
+    /// The transformed bytes, or null to leave the class alone. Failures are
+    /// thrown rather than logged, so one is never cached as "unchanged".
+    byte[] apply(String className, byte[] classfile) throws Exception;
+
+    /// Uncached use: define-time only, failures logged and the class left alone.
+    @Override
+    default byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+                             ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+        if (classBeingRedefined != null || className == null || !targets(className)) return null;
+        try {
+            return apply(className, classfileBuffer);
+        } catch (Throwable t) {
+            error("%s failed to transform %s: %s", getClass().getSimpleName(), className, t);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/// src/main/java/dev/badkraft/aurora/agent/CachingTransformer.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import dev.badkraft.aurora.install.HashCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.List;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+
+/// Runs the agent's define-time transformers through a [TransformCache].
+///
+/// Classes no transformer [targets][CachedTransformer#targets] pass through
+/// without being hashed. For the rest the original bytes are hashed and the
+/// cache is consulted before any transformer runs; on a miss the
+/// transformers run in order, each seeing the previous one's output, and the
+/// result is stored for the next launch or instance.
+final class CachingTransformer implements ClassFileTransformer {
+    private final List<CachedTransformer> transformers;
+    private final TransformCache cache;
+
+    CachingTransformer(List<CachedTransformer> transformers, TransformCache cache) {
+        this.transformers = List.copyOf(transformers);
+        this.cache = cache;
+    }
+
+    /// Everything that determines the cached output, in application order:
+    /// each transformer's configuration and the bytecode of the code doing
+    /// the rewriting, so editing a transformer invalidates its entries.
+    static String fingerprint(List<CachedTransformer> transformers) {
+        StringBuilder fingerprint = new StringBuilder();
+        fingerprint.append("rewriter ").append(codeHash(ClassRewriter.class))
+                .append(' ').append(codeHash(MethodWrapper.class)).append('\n');
+        for (CachedTransformer t : transformers) {
+            fingerprint.append(codeHash(t.getClass())).append(' ').append(t.fingerprint()).append('\n');
+        }
+        return fingerprint.toString();
+    }
+
+    TransformCache cache() {
+        return cache;
+    }
+
+    @Override
+    public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+                            ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+        if (classBeingRedefined != null || className == null || !targeted(className)) return null;
+        String sha1 = HashCache.hash(classfileBuffer);
+        byte[] cached = cache.get(sha1);
+        if (cached != null) return cached == TransformCache.UNCHANGED ? null : cached;
+
+        byte[] current = classfileBuffer;
+        boolean changed = false;
+        for (CachedTransformer t : transformers) {
+            if (!t.targets(className)) continue;
+            try {
+                byte[] result = t.apply(className, current);
+                if (result != null) {
+                    current = result;
+                    changed = true;
+                }
+            } catch (Throwable e) {
+                // a failed transform is not cached; the next launch tries again
+                error("Transformer failed on %s: %s", className, e);
+                return changed ? current : null;
+            }
+        }
+        cache.put(sha1, changed ? current : null);
+        return changed ? current : null;
+    }
+
+    private static String codeHash(Class<?> type) {
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            return in == null ? type.getName() : HashCache.hash(in.readAllBytes());
+        } catch (IOException e) {
+            return type.getName();
+        }
+    }
+
+    private boolean targeted(String className) {
+        for (CachedTransformer t : transformers) {
+            if (t.targets(className)) return true;
+        }
+        return false;
+    }
+}
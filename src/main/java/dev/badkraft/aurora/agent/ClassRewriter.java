@@ -0,0 +1,324 @@
+/// src/main/java/dev/badkraft/aurora/agent/ClassRewriter.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/// Just enough of a class-file reader/writer for the agent's transformers.
+///
+/// The constant pool is kept as raw entries and only ever appended to, fields
+/// and unknown attributes are copied through byte-for-byte, and methods are
+/// exposed as [MethodInfo]s so a transformer can rename one and add new ones.
+/// Existing code is never re-encoded, so offsets and stack map frames inside
+/// it stay valid.
+final class ClassRewriter {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_PROTECTED = 0x0004;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_SYNCHRONIZED = 0x0020;
+    static final int ACC_NATIVE = 0x0100;
+    static final int ACC_INTERFACE = 0x0200;
+    static final int ACC_ABSTRACT = 0x0400;
+
+    private static final int UTF8 = 1, CLASS = 7, STRING = 8, METHODREF = 10, INTERFACE_METHODREF = 11,
+            NAME_AND_TYPE = 12, METHOD_HANDLE = 15, METHOD_TYPE = 16, INVOKE_DYNAMIC = 18;
+
+    private final int minor;
+    private final int major;
+    private final List<byte[]> pool = new ArrayList<>();          // index - 1; null for the 2nd slot of long/double
+    private final Map<String, Integer> utf8 = new HashMap<>();
+    private final Map<String, Integer> added = new HashMap<>();
+    private final int access;
+    private final int thisClass;
+    private final String className;
+    private final byte[] middle;                                   // super, interfaces, fields — copied through
+    private final List<MethodInfo> methods = new ArrayList<>();
+    private final List<Attribute> attributes = new ArrayList<>();
+
+    record Attribute(int name, byte[] data) {}
+
+    static final class MethodInfo {
+        int access;
+        int name;
+        int descriptor;
+        final List<Attribute> attributes;
+
+        MethodInfo(int access, int name, int descriptor, List<Attribute> attributes) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.attributes = attributes;
+        }
+    }
+
+    ClassRewriter(byte[] bytes) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (in.getInt() != 0xCAFEBABE) throw new IOException("Not a class file");
+        minor = in.getShort() & 0xFFFF;
+        major = in.getShort() & 0xFFFF;
+        int count = in.getShort() & 0xFFFF;
+        for (int i = 1; i < count; i++) {
+            int start = in.position();
+            int tag = in.get();
+            switch (tag) {
+                case UTF8 -> {
+                    int length = in.getShort() & 0xFFFF;
+                    in.position(in.position() + length);
+                    String value = new DataInputStream(new ByteArrayInputStream(bytes, start + 1, length + 2)).readUTF();
+                    utf8.putIfAbsent(value, i);
+                }
+                case 3, 4 -> in.getInt();
+                case 5, 6 -> in.getLong();
+                case CLASS, STRING, METHOD_TYPE, 19, 20 -> in.getShort();
+                case 9, METHODREF, INTERFACE_METHODREF, NAME_AND_TYPE, 17, INVOKE_DYNAMIC -> in.getInt();
+                case METHOD_HANDLE -> { in.get(); in.getShort(); }
+                default -> throw new IOException("Bad constant pool tag " + tag + " at " + i);
+            }
+            pool.add(Arrays.copyOfRange(bytes, start, in.position()));
+            if (tag == 5 || tag == 6) {
+                pool.add(null);
+                i++;
+            }
+        }
+        access = in.getShort() & 0xFFFF;
+        thisClass = in.getShort() & 0xFFFF;
+        className = utf8At(u2(pool.get(thisClass - 1), 1));
+
+        int middleStart = in.position();
+        in.getShort();                                             // super
+        int interfaces = in.getShort() & 0xFFFF;
+        in.position(in.position() + interfaces * 2);
+        int fields = in.getShort() & 0xFFFF;
+        for (int i = 0; i < fields; i++) {
+            in.position(in.position() + 6);
+            readAttributes(in);
+        }
+        middle = Arrays.copyOfRange(bytes, middleStart, in.position());
+
+        int methodCount = in.getShort() & 0xFFFF;
+        for (int i = 0; i < methodCount; i++) {
+            int acc = in.getShort() & 0xFFFF;
+            int name = in.getShort() & 0xFFFF;
+            int desc = in.getShort() & 0xFFFF;
+            methods.add(new MethodInfo(acc, name, desc, readAttributes(in)));
+        }
+        attributes.addAll(readAttributes(in));
+    }
+
+    String className() {
+        return className;
+    }
+
+    int thisClass() {
+        return thisClass;
+    }
+
+    boolean isInterface() {
+        return (access & ACC_INTERFACE) != 0;
+    }
+
+    int majorVersion() {
+        return major;
+    }
+
+    List<MethodInfo> methods() {
+        return methods;
+    }
+
+    MethodInfo findMethod(String name, String descriptor) {
+        for (MethodInfo m : methods) {
+            if (utf8At(m.name).equals(name) && utf8At(m.descriptor).equals(descriptor)) return m;
+        }
+        return null;
+    }
+
+    String utf8At(int index) {
+        byte[] entry = pool.get(index - 1);
+        try {
+            return new DataInputStream(new ByteArrayInputStream(entry, 1, entry.length - 1)).readUTF();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // -- constant pool additions ------------------------------------------
+
+    int utf8(String value) {
+        Integer index = utf8.get(value);
+        if (index != null) return index;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(UTF8);
+            out.writeUTF(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        index = append(bytes.toByteArray());
+        utf8.put(value, index);
+        return index;
+    }
+
+    int classRef(String internalName) {
+        return entry("C" + internalName, CLASS, utf8(internalName));
+    }
+
+    int string(String value) {
+        return entry("S" + value, STRING, utf8(value));
+    }
+
+    int nameAndType(String name, String descriptor) {
+        return entry("N" + name + ":" + descriptor, NAME_AND_TYPE, utf8(name), utf8(descriptor));
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        return entry("M" + owner + "." + name + descriptor, METHODREF, classRef(owner), nameAndType(name, descriptor));
+    }
+
+    int methodType(String descriptor) {
+        return entry("T" + descriptor, METHOD_TYPE, utf8(descriptor));
+    }
+
+    /// `kind` is a `REF_*` constant, e.g. 6 for `REF_invokeStatic`.
+    int methodHandle(int kind, int reference) {
+        String key = "H" + kind + ":" + reference;
+        Integer index = added.get(key);
+        if (index != null) return index;
+        index = append(new byte[]{METHOD_HANDLE, (byte) kind, (byte) (reference >> 8), (byte) reference});
+        added.put(key, index);
+        return index;
+    }
+
+    int invokeDynamic(int bootstrapIndex, String name, String descriptor) {
+        return entry("I" + bootstrapIndex + ":" + name + descriptor, INVOKE_DYNAMIC, bootstrapIndex, nameAndType(name, descriptor));
+    }
+
+    private int entry(String key, int tag, int... operands) {
+        Integer index = added.get(key);
+        if (index != null) return index;
+        byte[] entry = new byte[1 + operands.length * 2];
+        entry[0] = (byte) tag;
+        for (int i = 0; i < operands.length; i++) {
+            entry[1 + i * 2] = (byte) (operands[i] >> 8);
+            entry[2 + i * 2] = (byte) operands[i];
+        }
+        index = append(entry);
+        added.put(key, index);
+        return index;
+    }
+
+    private int append(byte[] entry) {
+        pool.add(entry);
+        if (pool.size() >= 0xFFFF) throw new IllegalStateException("Constant pool overflow in " + className);
+        return pool.size();
+    }
+
+    // -- methods & attributes ----------------------------------------------
+
+    void addMethod(MethodInfo method) {
+        methods.add(method);
+    }
+
+    Attribute attribute(String name, byte[] data) {
+        return new Attribute(utf8(name), data);
+    }
+
+    /// Appends a `BootstrapMethods` entry, creating the attribute if the class has none.
+    int addBootstrapMethod(int methodHandle, int... arguments) {
+        int name = utf8("BootstrapMethods");
+        int at = -1;
+        for (int i = 0; i < attributes.size(); i++) {
+            if (attributes.get(i).name() == name) at = i;
+        }
+        byte[] old = at >= 0 ? attributes.get(at).data() : new byte[]{0, 0};
+        int count = u2(old, 0);
+        ByteBuffer data = ByteBuffer.allocate(old.length + 4 + arguments.length * 2);
+        data.putShort((short) (count + 1));
+        data.put(old, 2, old.length - 2);
+        data.putShort((short) methodHandle);
+        data.putShort((short) arguments.length);
+        for (int argument : arguments) data.putShort((short) argument);
+        Attribute attribute = new Attribute(name, data.array());
+        if (at >= 0) attributes.set(at, attribute);
+        else attributes.add(attribute);
+        return count;
+    }
+
+    byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(minor);
+            out.writeShort(major);
+            out.writeShort(pool.size() + 1);
+            for (byte[] entry : pool) {
+                if (entry != null) out.write(entry);
+            }
+            out.writeShort(access);
+            out.writeShort(thisClass);
+            out.write(middle);
+            out.writeShort(methods.size());
+            for (MethodInfo m : methods) {
+                out.writeShort(m.access);
+                out.writeShort(m.name);
+                out.writeShort(m.descriptor);
+                writeAttributes(out, m.attributes);
+            }
+            writeAttributes(out, attributes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<Attribute> readAttributes(ByteBuffer in) {
+        int count = in.getShort() & 0xFFFF;
+        List<Attribute> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int name = in.getShort() & 0xFFFF;
+            byte[] data = new byte[in.getInt()];
+            in.get(data);
+            list.add(new Attribute(name, data));
+        }
+        return list;
+    }
+
+    private static void writeAttributes(DataOutputStream out, List<Attribute> list) throws IOException {
+        out.writeShort(list.size());
+        for (Attribute a : list) {
+            out.writeShort(a.name());
+            out.writeInt(a.data().length);
+            out.write(a.data());
+        }
+    }
+
+    private static int u2(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+    }
+}
@@ -0,0 +1,138 @@
+/// src/main/java/dev/badkraft/aurora/agent/HookTransformer.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import dev.badkraft.aurora.mapping.ProGuardMappings;
+import dev.badkraft.aurora.mapping.ProGuardMappings.MethodMapping;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Turns the hook points named in `-Daurora.hooks` into [Hooks] call sites.
+///
+/// Each point is resolved through the Mojang mappings to its obfuscated
+/// owner and descriptor, and the method is rewritten by
+/// [MethodWrapper#dispatch] as its class is defined. This is the only class
+/// transformation hooks ever need: attaching and removing them later just
+/// rebinds call sites.
+final class HookTransformer implements CachedTransformer {
+    private static final String BOOTSTRAP_OWNER = "dev/badkraft/aurora/agent/Hooks";
+    private static final String BOOTSTRAP_NAME = "bootstrap";
+
+    /// `named.Class#method(param.Type,...)`, as written in `aurora.hooks`.
+    record Point(String id, String namedClass, String method, String[] params) {
+        static Point parse(String id) {
+            int hash = id.indexOf('#');
+            int open = id.indexOf('(', hash);
+            if (hash <= 0 || open < 0 || !id.endsWith(")")) {
+                throw new IllegalArgumentException("Bad hook point (want Class#method(types)): " + id);
+            }
+            String params = id.substring(open + 1, id.length() - 1).replace(" ", "");
+            return new Point(id, id.substring(0, hash), id.substring(hash + 1, open),
+                    params.isEmpty() ? new String[0] : params.split(","));
+        }
+    }
+
+    private final Map<String, List<Map.Entry<String, MethodMapping>>> targets;   // obf internal name -> (id, method)
+
+    private HookTransformer(Map<String, List<Map.Entry<String, MethodMapping>>> targets) {
+        this.targets = targets;
+    }
+
+    /// Parses a `;`-separated list of hook points; malformed ones are logged and skipped.
+    static List<Point> parse(String spec) {
+        List<Point> points = new ArrayList<>();
+        for (String id : spec.split(";")) {
+            if (id.isBlank()) continue;
+            try {
+                points.add(Point.parse(id.trim()));
+            } catch (IllegalArgumentException e) {
+                error("%s", e.getMessage());
+            }
+        }
+        return points;
+    }
+
+    /// Null when the mappings are missing or resolve none of `points`.
+    static HookTransformer fromMappings(Path proguard, List<Point> points) {
+        if (points.isEmpty()) return null;
+        if (!Files.exists(proguard)) {
+            info("Hooks disabled: no ProGuard mappings at %s", proguard);
+            return null;
+        }
+        try {
+            Set<String> classes = new LinkedHashSet<>();
+            for (Point p : points) classes.add(p.namedClass());
+            ProGuardMappings mappings = ProGuardMappings.open(proguard, classes);
+            Map<String, List<Map.Entry<String, MethodMapping>>> targets = new HashMap<>();
+            for (Point p : points) {
+                MethodMapping m = mappings.method(p.namedClass(), p.method(), p.params());
+                if (m == null) {
+                    error("Hook point not in mappings: %s", p.id());
+                    continue;
+                }
+                targets.computeIfAbsent(m.owner(), k -> new ArrayList<>()).add(Map.entry(p.id(), m));
+                info("Hook point: %s -> %s.%s%s", p.id(), m.owner(), m.name(), m.descriptor());
+            }
+            return targets.isEmpty() ? null : new HookTransformer(targets);
+        } catch (Exception e) {
+            error("Hooks disabled: failed to read mappings: %s", e);
+            return null;
+        }
+    }
+
+    @Override
+    public String fingerprint() {
+        return "hooks " + new TreeMap<>(targets);
+    }
+
+    @Override
+    public boolean targets(String className) {
+        return targets.containsKey(className);
+    }
+
+    @Override
+    public byte[] apply(String className, byte[] classfile) throws Exception {
+        ClassRewriter cf = new ClassRewriter(classfile);
+        int routed = 0;
+        for (Map.Entry<String, MethodMapping> point : targets.get(className)) {
+            MethodMapping m = point.getValue();
+            if (MethodWrapper.dispatch(cf, m.name(), m.descriptor(), BOOTSTRAP_OWNER, BOOTSTRAP_NAME, point.getKey())) {
+                routed++;
+            } else {
+                error("Hook point %s: %s has no hookable %s%s", point.getKey(), className, m.name(), m.descriptor());
+            }
+        }
+        return routed == 0 ? null : cf.toByteArray();
+    }
+}
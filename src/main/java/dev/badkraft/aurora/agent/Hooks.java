@@ -0,0 +1,206 @@
+/// src/main/java/dev/badkraft/aurora/agent/Hooks.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Runtime hooks on game methods, attached and removed without retransforming anything.
+///
+/// A hook point is named by its Mojang-mapped signature,
+/// `net.minecraft.server.MinecraftServer#tickServer(java.util.function.BooleanSupplier)`,
+/// and listed in `-Daurora.hooks` (separated by `;`) so the agent can route
+/// that method through an `invokedynamic` site when its class is defined.
+/// From then on the site is a [MutableCallSite] owned by this class:
+///
+/// - with nothing attached it is bound straight to the original method, which
+///   the JIT inlines as if the site were not there;
+/// - [#before] hooks get the method's arguments (receiver first, for instance
+///   methods) and run in attach order;
+/// - [#after] hooks get `(Throwable, result, receiver, args...)` — no result
+///   slot for `void` methods, a null `Throwable` on a normal return — and run
+///   whether the method returns or throws;
+/// - a [#replace] hook takes the original's place; the most recent one wins.
+///
+/// A hook may declare fewer parameters than it is offered; the rest are
+/// dropped. Attaching or removing a hook rebinds the site and
+/// [MutableCallSite#syncAll]s it: compiled callers deoptimize once and pick
+/// up the new target, with no class redefinition. Hooks may be attached
+/// before the class loads; they take effect when the site is bootstrapped.
+public final class Hooks {
+    /// Attached to a hook point; [#remove] detaches it.
+    public static final class Registration {
+        private final Site site;
+        private final Kind kind;
+        private final MethodHandle handle;
+
+        private Registration(Site site, Kind kind, MethodHandle handle) {
+            this.site = site;
+            this.kind = kind;
+            this.handle = handle;
+        }
+
+        public void remove() {
+            synchronized (Hooks.class) {
+                if (site.hooks.remove(this)) site.rebind();
+            }
+        }
+    }
+
+    private enum Kind { BEFORE, AFTER, REPLACE }
+
+    private static final class Site {
+        final String id;
+        final List<Registration> hooks = new ArrayList<>();
+        final List<MutableCallSite> callSites = new ArrayList<>();
+        final List<MethodHandle> originals = new ArrayList<>();
+
+        Site(String id) {
+            this.id = id;
+        }
+
+        void rebind() {
+            if (callSites.isEmpty()) return;
+            for (int i = 0; i < callSites.size(); i++) {
+                callSites.get(i).setTarget(compose(originals.get(i), callSites.get(i).type()));
+            }
+            MutableCallSite.syncAll(callSites.toArray(new MutableCallSite[0]));
+        }
+
+        private MethodHandle compose(MethodHandle original, MethodType type) {
+            MethodHandle target = original;
+            List<MethodHandle> before = new ArrayList<>();
+            List<MethodHandle> after = new ArrayList<>();
+            MethodType beforeType = type.changeReturnType(void.class);
+            Class<?> result = type.returnType();
+            MethodType afterType = (result == void.class ? type : type.insertParameterTypes(0, result))
+                    .insertParameterTypes(0, Throwable.class).changeReturnType(void.class);
+            for (Registration hook : hooks) {
+                try {
+                    switch (hook.kind) {
+                        case BEFORE -> before.add(fit(hook.handle, beforeType));
+                        case AFTER -> after.add(fit(hook.handle, afterType));
+                        case REPLACE -> target = fit(hook.handle, type);
+                    }
+                } catch (RuntimeException e) {
+                    error("Hook on %s skipped: %s does not fit %s: %s", id, hook.handle.type(), type, e.getMessage());
+                }
+            }
+            if (!after.isEmpty()) {
+                MethodHandle cleanup = chain(after);
+                if (result != void.class) {
+                    // (Throwable, R, args...) -> R: run the hooks, hand the result back
+                    MethodHandle passResult = MethodHandles.dropArguments(
+                            MethodHandles.dropArguments(MethodHandles.identity(result), 1, type.parameterList()),
+                            0, Throwable.class);
+                    cleanup = MethodHandles.foldArguments(passResult, cleanup);
+                }
+                target = MethodHandles.tryFinally(target, cleanup);
+            }
+            if (!before.isEmpty()) target = MethodHandles.foldArguments(target, chain(before));
+            return target;
+        }
+    }
+
+    private static final Map<String, Site> SITES = new HashMap<>();
+
+    private Hooks() {}
+
+    public static Registration before(String hookPoint, MethodHandle hook) {
+        return attach(hookPoint, Kind.BEFORE, hook);
+    }
+
+    public static Registration after(String hookPoint, MethodHandle hook) {
+        return attach(hookPoint, Kind.AFTER, hook);
+    }
+
+    public static Registration replace(String hookPoint, MethodHandle hook) {
+        return attach(hookPoint, Kind.REPLACE, hook);
+    }
+
+    /// Hook points whose call sites exist, i.e. whose classes have been defined.
+    public static synchronized Set<String> boundPoints() {
+        Set<String> bound = new TreeSet<>();
+        for (Site site : SITES.values()) if (!site.callSites.isEmpty()) bound.add(site.id);
+        return bound;
+    }
+
+    /// Bootstrap for the sites [MethodWrapper#dispatch] emits; not for direct use.
+    public static CallSite bootstrap(MethodHandles.Lookup caller, String name, MethodType type,
+                                     MethodHandle original, String hookPoint) {
+        synchronized (Hooks.class) {
+            Site site = SITES.computeIfAbsent(hookPoint, Site::new);
+            MethodHandle exact = original.asType(type);
+            MutableCallSite callSite = new MutableCallSite(exact);
+            site.callSites.add(callSite);
+            site.originals.add(exact);
+            if (!site.hooks.isEmpty()) site.rebind();
+            info("Hook point bound: %s in %s (%d hook(s))", hookPoint, caller.lookupClass().getName(), site.hooks.size());
+            return callSite;
+        }
+    }
+
+    private static synchronized Registration attach(String hookPoint, Kind kind, MethodHandle hook) {
+        if (hook == null) throw new IllegalArgumentException("Null hook for " + hookPoint);
+        Site site = SITES.computeIfAbsent(hookPoint, Site::new);
+        Registration registration = new Registration(site, kind, hook);
+        site.hooks.add(registration);
+        site.rebind();
+        return registration;
+    }
+
+    /// Adapts `hook` to `type`, dropping trailing parameters it doesn't declare.
+    private static MethodHandle fit(MethodHandle hook, MethodType type) {
+        int declared = hook.type().parameterCount();
+        if (declared > type.parameterCount()) {
+            throw new IllegalArgumentException("too many parameters");
+        }
+        MethodHandle fitted = MethodHandles.dropArguments(hook, declared,
+                type.parameterList().subList(declared, type.parameterCount()));
+        if (type.returnType() == void.class && fitted.type().returnType() != void.class) {
+            fitted = MethodHandles.dropReturn(fitted);
+        }
+        return fitted.asType(type);
+    }
+
+    /// One void handle running each of `hooks`, in order, on the same arguments.
+    private static MethodHandle chain(List<MethodHandle> hooks) {
+        MethodHandle chained = hooks.getLast();
+        for (int i = hooks.size() - 2; i >= 0; i--) {
+            chained = MethodHandles.foldArguments(chained, hooks.get(i));
+        }
+        return chained;
+    }
+}
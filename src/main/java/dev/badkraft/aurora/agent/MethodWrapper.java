@@ -0,0 +1,245 @@
+/// src/main/java/dev/badkraft/aurora/agent/MethodWrapper.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.badkraft.aurora.agent.ClassRewriter.*;
+
+/// Wraps one method in a pair of static probes without touching its code.
+///
+/// The original is renamed to `<name>$aurora$wrapped` and made private; a new
+/// method with the original name, descriptor and access takes its place:
+///
+///   long t = Probe.enter();
+///   try { return this.name$aurora$wrapped(args); }
+///   finally { Probe.exit(t); }
+///
+/// Overrides and callers keep resolving to the original name, so they now go
+/// through the wrapper. Only for classes being defined — a retransform cannot
+/// add methods.
+final class MethodWrapper {
+    static final String SUFFIX = "$aurora$wrapped";
+    static final String HOOKED_SUFFIX = "$aurora$hooked";
+
+    /// `owner.enter()J` runs before the call, `owner.exit(J)V` after it, always.
+    record Probe(String owner, String enter, String exit) {}
+
+    private MethodWrapper() {}
+
+    static boolean wrap(ClassRewriter cf, String name, String descriptor, Probe probe) throws IOException {
+        ClassRewriter.MethodInfo original = cf.findMethod(name, descriptor);
+        if (original == null || name.startsWith("<") || cf.isInterface() || cf.majorVersion() < 50) return false;
+        if ((original.access & (ACC_ABSTRACT | ACC_NATIVE)) != 0) return false;
+
+        int access = original.access;
+        boolean isStatic = (access & ACC_STATIC) != 0;
+        original.name = cf.utf8(name + SUFFIX);
+        original.access = (access & ~(ACC_PUBLIC | ACC_PROTECTED)) | ACC_PRIVATE;
+
+        List<String> params = parameters(descriptor);
+        String returnType = descriptor.substring(descriptor.indexOf(')') + 1);
+        int argSlots = 0;
+        for (String p : params) argSlots += slots(p);
+        int startLocal = (isStatic ? 0 : 1) + argSlots;
+        int throwableLocal = startLocal + 2;
+        if (throwableLocal > 255) return false;
+
+        int enter = cf.methodRef(probe.owner(), probe.enter(), "()J");
+        int exit = cf.methodRef(probe.owner(), probe.exit(), "(J)V");
+        int target = cf.methodRef(cf.className(), name + SUFFIX, descriptor);
+
+        ByteArrayOutputStream codeBytes = new ByteArrayOutputStream();
+        DataOutputStream code = new DataOutputStream(codeBytes);
+        code.writeByte(0xB8); code.writeShort(enter);              // invokestatic enter
+        code.writeByte(0x37); code.writeByte(startLocal);          // lstore t
+        int tryStart = code.size();
+        int local = 0;
+        if (!isStatic) { code.writeByte(0x19); code.writeByte(local++); }   // aload this
+        for (String p : params) {
+            code.writeByte(loadOpcode(p));
+            code.writeByte(local);
+            local += slots(p);
+        }
+        code.writeByte(isStatic ? 0xB8 : 0xB7); code.writeShort(target);     // invokestatic / invokespecial
+        int tryEnd = code.size();
+        code.writeByte(0x16); code.writeByte(startLocal);          // lload t
+        code.writeByte(0xB8); code.writeShort(exit);               // invokestatic exit
+        code.writeByte(returnOpcode(returnType));
+        int handler = code.size();
+        code.writeByte(0x3A); code.writeByte(throwableLocal);      // astore e
+        code.writeByte(0x16); code.writeByte(startLocal);          // lload t
+        code.writeByte(0xB8); code.writeShort(exit);
+        code.writeByte(0x19); code.writeByte(throwableLocal);      // aload e
+        code.writeByte(0xBF);                                      // athrow
+
+        // one full frame, at the handler: [this, params..., long] / [Throwable]
+        ByteArrayOutputStream frameBytes = new ByteArrayOutputStream();
+        DataOutputStream frame = new DataOutputStream(frameBytes);
+        frame.writeShort(1);
+        frame.writeByte(255);
+        frame.writeShort(handler);
+        frame.writeShort((isStatic ? 0 : 1) + params.size() + 1);
+        if (!isStatic) { frame.writeByte(7); frame.writeShort(cf.thisClass()); }
+        for (String p : params) writeVerificationType(frame, cf, p);
+        frame.writeByte(4);                                        // long
+        frame.writeShort(1);
+        frame.writeByte(7); frame.writeShort(cf.classRef("java/lang/Throwable"));
+
+        ByteArrayOutputStream attrBytes = new ByteArrayOutputStream();
+        DataOutputStream attr = new DataOutputStream(attrBytes);
+        attr.writeShort(Math.max(4, argSlots + (isStatic ? 0 : 1)));   // max_stack
+        attr.writeShort(throwableLocal + 1);                            // max_locals
+        attr.writeInt(code.size());
+        attr.write(codeBytes.toByteArray());
+        attr.writeShort(1);
+        attr.writeShort(tryStart); attr.writeShort(tryEnd); attr.writeShort(handler); attr.writeShort(0);
+        attr.writeShort(1);
+        attr.writeShort(cf.utf8("StackMapTable"));
+        attr.writeInt(frame.size());
+        attr.write(frameBytes.toByteArray());
+
+        int wrapperAccess = access & ~(ACC_SYNCHRONIZED | ACC_NATIVE | ACC_ABSTRACT);
+        cf.addMethod(new ClassRewriter.MethodInfo(wrapperAccess, cf.utf8(name), cf.utf8(descriptor),
+                new ArrayList<>(List.of(cf.attribute("Code", attrBytes.toByteArray())))));
+        return true;
+    }
+
+    /// Routes one method through an `invokedynamic` call site instead of probes.
+    ///
+    /// The original is renamed to `<name>$aurora$hooked` and made private; the
+    /// replacement only forwards its arguments:
+    ///
+    ///   return indy name$aurora$hooked(this, args)   // bootstrap(original, siteId)
+    ///
+    /// The bootstrap gets a direct handle to the renamed original as a static
+    /// argument and decides what the site is bound to, so the class never has
+    /// to be transformed again to change that. The forwarding body is
+    /// straight-line code and needs no stack map frames.
+    static boolean dispatch(ClassRewriter cf, String name, String descriptor,
+                            String bootstrapOwner, String bootstrapName, String siteId) throws IOException {
+        ClassRewriter.MethodInfo original = cf.findMethod(name, descriptor);
+        if (original == null || name.startsWith("<") || cf.isInterface() || cf.majorVersion() < 51) return false;
+        if ((original.access & (ACC_ABSTRACT | ACC_NATIVE)) != 0) return false;
+
+        int access = original.access;
+        boolean isStatic = (access & ACC_STATIC) != 0;
+        String hidden = name + HOOKED_SUFFIX;
+        original.name = cf.utf8(hidden);
+        original.access = (access & ~(ACC_PUBLIC | ACC_PROTECTED)) | ACC_PRIVATE;
+
+        List<String> params = parameters(descriptor);
+        String returnType = descriptor.substring(descriptor.indexOf(')') + 1);
+        int argSlots = isStatic ? 0 : 1;
+        for (String p : params) argSlots += slots(p);
+
+        // the site's type carries the receiver as an ordinary first parameter
+        String siteDescriptor = isStatic ? descriptor : "(L" + cf.className() + ";" + descriptor.substring(1);
+        int originalHandle = cf.methodHandle(isStatic ? 6 : 7,                   // REF_invokeStatic / REF_invokeSpecial
+                cf.methodRef(cf.className(), hidden, descriptor));
+        int bootstrap = cf.methodHandle(6, cf.methodRef(bootstrapOwner, bootstrapName,
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;"
+                        + "Ljava/lang/invoke/MethodHandle;Ljava/lang/String;)Ljava/lang/invoke/CallSite;"));
+        int site = cf.invokeDynamic(cf.addBootstrapMethod(bootstrap, originalHandle, cf.string(siteId)),
+                hidden, siteDescriptor);
+
+        ByteArrayOutputStream codeBytes = new ByteArrayOutputStream();
+        DataOutputStream code = new DataOutputStream(codeBytes);
+        int local = 0;
+        if (!isStatic) { code.writeByte(0x19); code.writeByte(local++); }   // aload this
+        for (String p : params) {
+            code.writeByte(loadOpcode(p));
+            code.writeByte(local);
+            local += slots(p);
+        }
+        code.writeByte(0xBA); code.writeShort(site); code.writeShort(0);   // invokedynamic
+        code.writeByte(returnOpcode(returnType));
+
+        ByteArrayOutputStream attrBytes = new ByteArrayOutputStream();
+        DataOutputStream attr = new DataOutputStream(attrBytes);
+        attr.writeShort(Math.max(argSlots, returnType.equals("V") ? 0 : slots(returnType)));   // max_stack
+        attr.writeShort(argSlots);                                                              // max_locals
+        attr.writeInt(code.size());
+        attr.write(codeBytes.toByteArray());
+        attr.writeShort(0);                                        // no exception table
+        attr.writeShort(0);                                        // no attributes
+
+        int forwarderAccess = access & ~(ACC_SYNCHRONIZED | ACC_NATIVE | ACC_ABSTRACT);
+        cf.addMethod(new ClassRewriter.MethodInfo(forwarderAccess, cf.utf8(name), cf.utf8(descriptor),
+                new ArrayList<>(List.of(cf.attribute("Code", attrBytes.toByteArray())))));
+        return true;
+    }
+
+    static List<String> parameters(String descriptor) {
+        List<String> params = new ArrayList<>();
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            int start = i;
+            while (descriptor.charAt(i) == '[') i++;
+            if (descriptor.charAt(i) == 'L') i = descriptor.indexOf(';', i);
+            i++;
+            params.add(descriptor.substring(start, i));
+        }
+        return params;
+    }
+
+    static int slots(String type) {
+        return type.equals("J") || type.equals("D") ? 2 : 1;
+    }
+
+    static int loadOpcode(String type) {
+        return switch (type.charAt(0)) {
+            case 'J' -> 0x16;               // lload
+            case 'F' -> 0x17;               // fload
+            case 'D' -> 0x18;               // dload
+            case 'L', '[' -> 0x19;          // aload
+            default -> 0x15;                // iload
+        };
+    }
+
+    static int returnOpcode(String type) {
+        return switch (type.charAt(0)) {
+            case 'V' -> 0xB1;
+            case 'J' -> 0xAD;
+            case 'F' -> 0xAE;
+            case 'D' -> 0xAF;
+            case 'L', '[' -> 0xB0;
+            default -> 0xAC;
+        };
+    }
+
+    static void writeVerificationType(DataOutputStream out, ClassRewriter cf, String type) throws IOException {
+        switch (type.charAt(0)) {
+            case 'J' -> out.writeByte(4);
+            case 'F' -> out.writeByte(2);
+            case 'D' -> out.writeByte(3);
+            case 'L' -> { out.writeByte(7); out.writeShort(cf.classRef(type.substring(1, type.length() - 1))); }
+            case '[' -> { out.writeByte(7); out.writeShort(cf.classRef(type)); }
+            default -> out.writeByte(1);
+        }
+    }
+}
@@ -22,16 +22,29 @@
 /// SOFTWARE.
 package dev.badkraft.aurora.agent;
 
+import dev.badkraft.aurora.Loader;
+import dev.badkraft.aurora.mapping.ProGuardMappings;
+import dev.badkraft.aurora.utils.Directories;
+
+import java.io.IOException;
+import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
 import static dev.badkraft.aurora.utils.AuroraLogger.info;
 
 public class RuntimeAgent {
+    /// The game directory under `run/` unless `-Daurora.instance` names another.
+    public static final String DEFAULT_INSTANCE = "minecraft";
+
+    private static final String INSTANCE;
     private static final Path RUN_DIR;
     private static final Path LOG_DIR;
 
@@ -41,13 +54,15 @@ public class RuntimeAgent {
             // Fallback for JAR launch — still works
             root = findProjectRootFromJar();
         }
-        RUN_DIR = Paths.get(root).resolve("run").resolve("minecraft");
+        // each instance of a multi-instance launch gets run/<instance>; run/aurora stays shared
+        INSTANCE = System.getProperty("aurora.instance", DEFAULT_INSTANCE);
+        RUN_DIR = Paths.get(root).resolve("run").resolve(INSTANCE);
         System.setProperty("user.dir", RUN_DIR.toAbsolutePath().toString());
         // set aurora directory property
         Path auroraDir = RUN_DIR.getParent().resolve( "aurora");
         System.setProperty("aurora.dir", auroraDir.toString());
         // set 'logDir/logFile'
-        LOG_DIR = auroraDir.resolve("logs");
+        LOG_DIR = INSTANCE.equals(DEFAULT_INSTANCE) ? auroraDir.resolve("logs") : auroraDir.resolve("logs").resolve(INSTANCE);
 
         try {
             Files.createDirectories(LOG_DIR);
@@ -55,9 +70,79 @@ public class RuntimeAgent {
 
         // now we can instantate the logger without importing any static loading
     }
-    public static void premain(String agentArgs, Instrumentation inst) {
+    private static Instrumentation instrumentation;
+    private static final List<ClassFileTransformer> installed = new ArrayList<>();
 
+    public static void premain(String agentArgs, Instrumentation inst) {
+        instrumentation = inst;
         System.out.println("[Aurora:RuntimeAgent] Detected exec path. Set working: " + RUN_DIR);
+
+        installMapped(ProGuardMappings.DEFAULT_FILE, Boolean.getBoolean("aurora.tickProfiler"));
+    }
+
+    /// Re-targets the mapping-driven transformers (tick hook, hooks) at the
+    /// dedicated server, whose obfuscated names differ from the client's the
+    /// agent assumed at startup. The tick profiler is on unless
+    /// `-Daurora.tickProfiler=false`. Must run before any game class loads;
+    /// returns whether the tick profiler is on.
+    ///
+    /// @param mappings the server's ProGuard mappings, or null to drop both
+    public static synchronized boolean useServerMappings(Path mappings) {
+        if (instrumentation == null) return false;
+        installed.forEach(instrumentation::removeTransformer);
+        installed.clear();
+        if (mappings == null) {
+            error("No server mappings: mod timers won't run; tick profiler and hooks disabled");
+            return false;
+        }
+        boolean ticks = Boolean.parseBoolean(System.getProperty("aurora.tickProfiler", "true"));
+        return installMapped(mappings, ticks);
+    }
+
+    /// Installs the tick hook — always, it drives the mod timers — and
+    /// `-Daurora.hooks` against `proguard`. The hook times ticks if `profile`;
+    /// returns whether it does.
+    private static boolean installMapped(Path proguard, boolean profile) {
+        List<CachedTransformer> transformers = new ArrayList<>();
+        TickTransformer tick = TickTransformer.fromMappings(proguard);
+        if (tick != null) transformers.add(tick);
+        TickProbe.profile(tick != null && profile);
+        String hookPoints = System.getProperty("aurora.hooks");
+        if (hookPoints != null && !hookPoints.isBlank()) {
+            HookTransformer hooks = HookTransformer.fromMappings(proguard, HookTransformer.parse(hookPoints));
+            if (hooks != null) transformers.add(hooks);
+        }
+        if (!transformers.isEmpty()) addTransformers(instrumentation, transformers);
+        return TickProbe.profiling();
+    }
+
+    /// Installs `transformers` behind the shared [TransformCache] unless `-Daurora.transformCache=false`.
+    private static void addTransformers(Instrumentation inst, List<CachedTransformer> transformers) {
+        if (!Boolean.parseBoolean(System.getProperty("aurora.transformCache", "true"))) {
+            transformers.forEach(inst::addTransformer);
+            installed.addAll(transformers);
+            return;
+        }
+        try {
+            TransformCache cache = TransformCache.open(Directories.CACHE_DIR.resolve("transformed"),
+                    Loader.AMVP_VERSION, CachingTransformer.fingerprint(transformers));
+            CachingTransformer caching = new CachingTransformer(transformers, cache);
+            inst.addTransformer(caching);
+            installed.add(caching);
+        } catch (IOException e) {
+            error("Transform cache unavailable, transforming uncached: %s", e);
+            transformers.forEach(inst::addTransformer);
+            installed.addAll(transformers);
+        }
+    }
+
+    /** Null unless launched with the agent */
+    public static Instrumentation instrumentation() {
+        return instrumentation;
+    }
+
+    public static String instance() {
+        return INSTANCE;
     }
 
     public static Path logDir() {
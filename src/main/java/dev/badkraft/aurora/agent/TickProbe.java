@@ -0,0 +1,62 @@
+/// src/main/java/dev/badkraft/aurora/agent/TickProbe.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import dev.badkraft.aurora.profiling.TickProfiler;
+import dev.badkraft.aurora.schedule.TickScheduler;
+
+/// What [TickTransformer] brackets the server tick with: advances the
+/// [TickScheduler] once per tick, and times the tick when the tick profiler
+/// is on. Only the outermost call counts, so an override calling
+/// `super.tickServer` is one tick, not two.
+///
+/// The scheduler runs at the end of the tick, inside the timed bracket, so
+/// timer work shows up in tick times the way vanilla's scheduled tasks do.
+public final class TickProbe {
+    private static volatile boolean profiling;
+    private static int depth;   // server thread only
+
+    private TickProbe() {}
+
+    static void profile(boolean enabled) {
+        profiling = enabled;
+    }
+
+    public static boolean profiling() {
+        return profiling;
+    }
+
+    public static long enter() {
+        depth++;
+        return profiling ? TickProfiler.enter() : 0;
+    }
+
+    public static void exit(long start) {
+        try {
+            if (depth == 1) TickScheduler.get().tick();
+        } finally {
+            depth--;
+            if (profiling) TickProfiler.exit(start);
+        }
+    }
+}
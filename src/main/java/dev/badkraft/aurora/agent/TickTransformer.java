@@ -0,0 +1,109 @@
+/// src/main/java/dev/badkraft/aurora/agent/TickTransformer.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import dev.badkraft.aurora.mapping.ProGuardMappings;
+import dev.badkraft.aurora.mapping.ProGuardMappings.MethodMapping;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Wraps the server tick in [TickProbe], which drives the timer wheel and,
+/// when enabled, the tick profiler.
+///
+/// The tick method is found through the Mojang mappings, not by its
+/// obfuscated name. Every server class declaring `tickServer` is wrapped;
+/// the probe only counts the outermost call, so an override calling
+/// `super.tickServer` is one tick, including its own work.
+final class TickTransformer implements CachedTransformer {
+    private static final Set<String> SERVER_CLASSES = Set.of(
+            "net.minecraft.server.MinecraftServer",
+            "net.minecraft.server.dedicated.DedicatedServer",
+            "net.minecraft.client.server.IntegratedServer");
+    private static final String TICK_METHOD = "tickServer";
+    private static final String TICK_PARAM = "java.util.function.BooleanSupplier";
+    private static final MethodWrapper.Probe PROBE =
+            new MethodWrapper.Probe("dev/badkraft/aurora/agent/TickProbe", "enter", "exit");
+
+    private final Map<String, MethodMapping> targets;   // obf internal name -> method
+
+    private TickTransformer(Map<String, MethodMapping> targets) {
+        this.targets = targets;
+    }
+
+    /// Null when the mappings are missing or don't name a tick method.
+    static TickTransformer fromMappings(Path proguard) {
+        if (!Files.exists(proguard)) {
+            info("No ProGuard mappings at %s: mod timers won't run and the tick profiler is off", proguard);
+            return null;
+        }
+        try {
+            ProGuardMappings mappings = ProGuardMappings.open(proguard, SERVER_CLASSES);
+            Map<String, MethodMapping> targets = new HashMap<>();
+            for (String named : SERVER_CLASSES) {
+                MethodMapping tick = mappings.method(named, TICK_METHOD, TICK_PARAM);
+                if (tick != null) {
+                    targets.put(tick.owner(), tick);
+                    info("Tick hook: %s.%s -> %s.%s%s", named, TICK_METHOD, tick.owner(), tick.name(), tick.descriptor());
+                }
+            }
+            if (targets.isEmpty()) {
+                error("%s not found in mappings: mod timers won't run and the tick profiler is off", TICK_METHOD);
+                return null;
+            }
+            return new TickTransformer(targets);
+        } catch (Exception e) {
+            error("Tick hook not installed, failed to read mappings: %s", e);
+            return null;
+        }
+    }
+
+    @Override
+    public String fingerprint() {
+        return "tick " + new TreeMap<>(targets) + " " + PROBE;
+    }
+
+    @Override
+    public boolean targets(String className) {
+        return targets.containsKey(className);
+    }
+
+    @Override
+    public byte[] apply(String className, byte[] classfile) throws Exception {
+        MethodMapping tick = targets.get(className);
+        ClassRewriter cf = new ClassRewriter(classfile);
+        if (!MethodWrapper.wrap(cf, tick.name(), tick.descriptor(), PROBE)) {
+            error("Tick hook: %s has no wrappable %s%s", className, tick.name(), tick.descriptor());
+            return null;
+        }
+        info("Tick hook installed in %s", className);
+        return cf.toByteArray();
+    }
+}
@@ -0,0 +1,153 @@
+/// src/main/java/dev/badkraft/aurora/agent/TransformCache.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.agent;
+
+import dev.badkraft.aurora.install.HashCache;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.debug;
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Transformed class bytes on disk, keyed by the SHA-1 of the original bytes.
+///
+/// One directory per fingerprint — the Aurora version plus every active
+/// transformer's [CachedTransformer#fingerprint] — so changing a transformer
+/// or upgrading Aurora simply starts a new directory; nothing is ever
+/// invalidated in place. Entries are written whole and renamed into place,
+/// which keeps concurrent instances sharing the cache from ever seeing half a
+/// class, and read back through a memory mapping. An empty entry records that
+/// the transformers left the class alone.
+///
+/// Directories that no launch has used for [#MAX_AGE] are pruned on open.
+final class TransformCache {
+    static final Duration MAX_AGE = Duration.ofDays(Long.getLong("aurora.transformCache.maxAgeDays", 30));
+    /// Returned by [#get] for a class the transformers declined.
+    static final byte[] UNCHANGED = new byte[0];
+
+    private final Path dir;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private TransformCache(Path dir) {
+        this.dir = dir;
+    }
+
+    /// Opens (creating if needed) the cache for `fingerprint` under `root`.
+    static TransformCache open(Path root, String version, String fingerprint) throws IOException {
+        String key = version + "\n" + fingerprint;
+        Path dir = root.resolve(HashCache.hash(key.getBytes()).substring(0, 16));
+        Files.createDirectories(dir);
+        Path description = dir.resolve("fingerprint.txt");
+        if (!Files.exists(description)) Files.writeString(description, key + "\n");
+        Files.setLastModifiedTime(dir, FileTime.from(Instant.now()));
+        prune(root, dir);
+        info("Transform cache: %s", dir);
+        return new TransformCache(dir);
+    }
+
+    /// The cached result for `sha1`, [#UNCHANGED], or null on a miss.
+    byte[] get(String sha1) {
+        Path entry = dir.resolve(sha1 + ".class");
+        try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                hits.increment();
+                return UNCHANGED;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            byte[] bytes = new byte[(int) size];
+            mapped.get(bytes);
+            hits.increment();
+            return bytes;
+        } catch (NoSuchFileException e) {
+            misses.increment();
+            return null;
+        } catch (IOException e) {
+            error("Transform cache: unreadable %s: %s", entry, e);
+            misses.increment();
+            return null;
+        }
+    }
+
+    /// Stores a result; `transformed == null` records "unchanged". Failures only cost a recompute.
+    void put(String sha1, byte[] transformed) {
+        Path entry = dir.resolve(sha1 + ".class");
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(dir, "." + sha1, ".tmp");
+            Files.write(temp, transformed == null ? UNCHANGED : transformed);
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            error("Transform cache: failed to store %s: %s", entry, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    Path dir() {
+        return dir;
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    private static void prune(Path root, Path keep) {
+        Instant cutoff = Instant.now().minus(MAX_AGE);
+        try (Stream<Path> dirs = Files.list(root)) {
+            for (Path old : (Iterable<Path>) dirs::iterator) {
+                if (old.equals(keep) || !Files.isDirectory(old)) continue;
+                if (Files.getLastModifiedTime(old).toInstant().isAfter(cutoff)) continue;
+                try (Stream<Path> files = Files.list(old)) {
+                    for (Path f : (Iterable<Path>) files::iterator) Files.deleteIfExists(f);
+                }
+                Files.deleteIfExists(old);
+                debug("Transform cache: pruned %s", old);
+            }
+        } catch (IOException e) {
+            error("Transform cache: prune failed: %s", e);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/// src/main/java/dev/badkraft/aurora/auth/AuthBenchmark.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.auth;
+
+import dev.badkraft.aurora.profiling.TickHistogram;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Offline benchmark of the auth chain against [AuthStubServer].
+///
+/// Measures, without touching the network:
+///  - **login** — code exchange through profile, all five hops
+///  - **refresh (warm)** — the usual refresh, XBL/XSTS served from `config.aurora`
+///  - **refresh (cold)** — every hop expired, the full chain again
+///  - **session manager** — `--concurrency` launches blocked in
+///    [SessionManager#awaitSession()] on an expired session at once; reports how
+///    long they waited and how many requests it cost (ideally one refresh)
+///
+/// ```
+/// ./gradlew authBenchmark -PauthBenchArgs="--iterations 200 --latency 40 --error-rate 0.02"
+/// ```
+///
+/// Options: `--iterations N` (100), `--rounds N` session-manager rounds (5),
+/// `--concurrency N` (64), `--latency ms` (25), `--jitter ms` (10),
+/// `--error-rate f` (0). Runs against a scratch `config.aurora` in a temp
+/// directory; the real one is never read or written.
+public final class AuthBenchmark {
+
+    private record Phase(String name, TickHistogram latency, long operations, long failures, long requests) {}
+
+    public static void main(String[] args) throws Exception {
+        int iterations = 100;
+        int rounds = 5;
+        int concurrency = 64;
+        long latencyMs = 25;
+        long jitterMs = 10;
+        double errorRate = 0;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--iterations"  -> iterations = Integer.parseInt(args[++i]);
+                case "--rounds"      -> rounds = Integer.parseInt(args[++i]);
+                case "--concurrency" -> concurrency = Integer.parseInt(args[++i]);
+                case "--latency"     -> latencyMs = Long.parseLong(args[++i]);
+                case "--jitter"      -> jitterMs = Long.parseLong(args[++i]);
+                case "--error-rate"  -> errorRate = Double.parseDouble(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        // the logger brings up RuntimeAgent's directory properties, as it does under the agent
+        info("Auth benchmark: %d iterations, %d x %d session waits", iterations, rounds, concurrency);
+
+        Path dir = Files.createTempDirectory("aurora-authbench");
+        Path config = dir.resolve("config.aurora");
+        System.setProperty("aurora.auth.config", config.toString());
+        // refresh as soon as a session is inside the margin, never later
+        System.setProperty("aurora.session.refreshJitter", "0");
+
+        AuthStubServer.Options base = AuthStubServer.Options.defaults()
+                .withLatency(Duration.ofMillis(latencyMs), Duration.ofMillis(jitterMs))
+                .withErrors(errorRate, 503);
+        // Short enough that the client never reuses them, long enough for the next hop to accept them.
+        Duration burn = Duration.ofSeconds(30);
+
+        AuthEndpoints previous = MinecraftAuth.endpoints();
+        List<Phase> phases = new ArrayList<>();
+        try (AuthStubServer stub = AuthStubServer.start(base)) {
+            MinecraftAuth.useEndpoints(stub.endpoints());
+            System.out.printf("Auth stub on %s - latency %dms +%dms, error rate %.3f%n",
+                    stub.baseUri(), latencyMs, jitterMs, errorRate);
+
+            // one untimed pass so class loading and the first connection aren't on the books
+            stub.options(base.withErrors(0, 503));
+            MinecraftAuth.completeLogin("warmup");
+            MinecraftAuth.refreshSilently();
+            stub.options(base);
+
+            phases.add(measure(stub, "login", iterations, () -> MinecraftAuth.completeLogin("bench")));
+            ensureSession(stub, base);
+            phases.add(measure(stub, "refresh (warm)", iterations, MinecraftAuth::refreshSilently));
+
+            AuthStubServer.Options cold = base.withLifetimes(burn, burn, burn, base.minecraftLifetime());
+            ensureSession(stub, cold);   // replace the long-lived cached hops with burnt ones
+            phases.add(measure(stub, "refresh (cold)", iterations, MinecraftAuth::refreshSilently));
+            ensureSession(stub, base);
+
+            phases.add(sessionManager(stub, base, config, rounds, concurrency));
+        } finally {
+            MinecraftAuth.useEndpoints(previous);
+            try (var files = Files.list(dir)) {
+                for (Path p : files.toList()) Files.deleteIfExists(p);
+            }
+            Files.deleteIfExists(dir);
+        }
+
+        System.out.println();
+        System.out.printf("%-18s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "phase", "ops", "failed", "req/op", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Phase phase : phases) {
+            TickHistogram h = phase.latency();
+            System.out.printf("%-18s %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    phase.name(), phase.operations(), phase.failures(),
+                    phase.operations() == 0 ? 0.0 : (double) phase.requests() / phase.operations(),
+                    ms(h.meanNanos()), ms(h.percentileNanos(50)), ms(h.percentileNanos(90)),
+                    ms(h.percentileNanos(99)), ms(h.maxNanos()));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    private static Phase measure(AuthStubServer stub, String name, int iterations, Operation op) {
+        TickHistogram latency = new TickHistogram();
+        long failures = 0;
+        long before = stub.totalRequests();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            try {
+                op.run();
+                latency.record(System.nanoTime() - start);
+            } catch (Exception e) {
+                failures++;
+            }
+        }
+        return new Phase(name, latency, iterations, failures, stub.totalRequests() - before);
+    }
+
+    /// `concurrency` launches wait on an expired session at once, `rounds` times over.
+    private static Phase sessionManager(AuthStubServer stub, AuthStubServer.Options base, Path config,
+                                        int rounds, int concurrency) throws Exception {
+        TickHistogram latency = new TickHistogram();
+        long failures = 0;
+        long requests = 0;
+        try (ExecutorService launches = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int round = 0; round < rounds; round++) {
+                // a session too close to expiry to hand out: every caller has to wait
+                stub.options(base.withErrors(0, 503).withLifetimes(
+                        base.msLifetime(), base.xblLifetime(), base.xstsLifetime(), Duration.ofSeconds(30)));
+                MinecraftAuth.refreshSilently();
+                stub.options(base);
+
+                SessionManager manager = new SessionManager(AuthStore.of(config), false);
+                CountDownLatch go = new CountDownLatch(1);
+                List<Future<Long>> waits = new ArrayList<>(concurrency);
+                long before = stub.totalRequests();
+                for (int i = 0; i < concurrency; i++) {
+                    waits.add(launches.submit(() -> {
+                        go.await();
+                        long start = System.nanoTime();
+                        manager.awaitSession();
+                        return System.nanoTime() - start;
+                    }));
+                }
+                go.countDown();
+                for (Future<Long> wait : waits) {
+                    try {
+                        latency.record(wait.get(2, TimeUnit.MINUTES));
+                    } catch (Exception e) {
+                        failures++;
+                    }
+                }
+                manager.stop();
+                requests += stub.totalRequests() - before;
+            }
+        }
+        return new Phase("session manager", latency, (long) rounds * concurrency, failures, requests);
+    }
+
+    /// A fresh login with `options`' lifetimes and no injected errors, so the next
+    /// phase starts from a known `config.aurora`.
+    private static void ensureSession(AuthStubServer stub, AuthStubServer.Options options) throws Exception {
+        stub.options(options.withErrors(0, 503));
+        MinecraftAuth.completeLogin("bench");
+        stub.options(options);
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,72 @@
+/// src/main/java/dev/badkraft/aurora/auth/AuthEndpoints.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.auth;
+
+import java.net.URI;
+
+/// The five hosts of the Microsoft → Xbox → Minecraft login chain, plus the
+/// browser authorize page.
+///
+/// Production by default. `-Daurora.auth.endpoint=http://host:port` rebases
+/// every endpoint onto one server using the same paths, which is what
+/// [AuthStubServer] serves — handy for CI boxes with no route to the internet.
+public record AuthEndpoints(
+        URI authorize,
+        URI token,
+        URI xbl,
+        URI xsts,
+        URI minecraftLogin,
+        URI minecraftProfile) {
+
+    static final String AUTHORIZE_PATH = "/consumers/oauth2/v2.0/authorize";
+    static final String TOKEN_PATH     = "/consumers/oauth2/v2.0/token";
+    static final String XBL_PATH       = "/user/authenticate";
+    static final String XSTS_PATH      = "/xsts/authorize";
+    static final String LOGIN_PATH     = "/authentication/login_with_xbox";
+    static final String PROFILE_PATH   = "/minecraft/profile";
+
+    public static final AuthEndpoints PRODUCTION = new AuthEndpoints(
+            URI.create("https://login.microsoftonline.com" + AUTHORIZE_PATH),
+            URI.create("https://login.microsoftonline.com" + TOKEN_PATH),
+            URI.create("https://user.auth.xboxlive.com" + XBL_PATH),
+            URI.create("https://xsts.auth.xboxlive.com" + XSTS_PATH),
+            URI.create("https://api.minecraftservices.com" + LOGIN_PATH),
+            URI.create("https://api.minecraftservices.com" + PROFILE_PATH));
+
+    /// Every endpoint on `base` (scheme, host and port), production paths.
+    public static AuthEndpoints rebased(URI base) {
+        String root = base.toString().replaceAll("/+$", "");
+        return new AuthEndpoints(
+                URI.create(root + AUTHORIZE_PATH),
+                URI.create(root + TOKEN_PATH),
+                URI.create(root + XBL_PATH),
+                URI.create(root + XSTS_PATH),
+                URI.create(root + LOGIN_PATH),
+                URI.create(root + PROFILE_PATH));
+    }
+
+    static AuthEndpoints fromSystemProperties() {
+        String base = System.getProperty("aurora.auth.endpoint");
+        return base == null || base.isBlank() ? PRODUCTION : rebased(URI.create(base));
+    }
+}
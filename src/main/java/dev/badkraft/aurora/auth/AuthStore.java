@@ -0,0 +1,320 @@
+/// src/main/java/dev/badkraft/aurora/auth/AuthStore.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.auth;
+
+import dev.badkraft.anvil.api.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/// Typed, in-memory view of `config.aurora`.
+///
+/// The file is parsed once; after that every reader gets the current immutable
+/// [State] and every change goes through [#update], which swaps the state and
+/// persists it by writing a temp file next to the config, forcing it to disk
+/// and renaming it over the original. The rename is atomic, so neither this
+/// process nor anything else reading the file (a second launcher, a shell
+/// script) can observe half of a refresh.
+///
+/// [#watch()] picks up edits made outside the process — another launcher
+/// instance refreshing the same account — re-parses, and hands the new state
+/// to the [#onExternalChange] listeners. Our own writes are recognised by
+/// their file stamp and ignored.
+public final class AuthStore {
+    private static final Map<Path, AuthStore> STORES = new ConcurrentHashMap<>();
+    private static final long QUIET_MS = 100;
+
+    /// The Xbox Live hops between the Microsoft refresh token and the Minecraft
+    /// token, each with its own expiry in epoch seconds.
+    public record XboxTokens(
+            String msToken, long msExpiresAt,
+            String xblToken, long xblExpiresAt,
+            String xstsToken, long xstsExpiresAt,
+            String uhs) {
+        public static final XboxTokens NONE = new XboxTokens(null, 0, null, 0, null, 0, null);
+    }
+
+    /// Everything `config.aurora` holds. `session` is null before the first login.
+    public record State(Session session, String refreshToken, XboxTokens xbox) {
+        public static final State EMPTY = new State(null, null, XboxTokens.NONE);
+    }
+
+    /// What the file looked like when we last read or wrote it.
+    private record Stamp(Object fileKey, FileTime modified, long size) {}
+
+    private final Path file;
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+    private volatile State state;
+    private Stamp stamp;
+    private Thread watcher;
+
+    private AuthStore(Path file) {
+        this.file = file;
+    }
+
+    /// The store for `file`; one per path, shared by everyone in the process.
+    public static AuthStore of(Path file) {
+        return STORES.computeIfAbsent(file.toAbsolutePath().normalize(), AuthStore::new);
+    }
+
+    /// The store for [MinecraftAuth#configFile()].
+    public static AuthStore get() {
+        return of(MinecraftAuth.configFile());
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /// The current state, parsing the file on first use. [State#EMPTY] if there is no file.
+    public State state() throws IOException {
+        State current = state;
+        return current != null ? current : load();
+    }
+
+    /// Applies `change` to the current state and persists the result atomically.
+    public synchronized State update(UnaryOperator<State> change) throws IOException {
+        State next = Objects.requireNonNull(change.apply(state()));
+        write(next);
+        state = next;
+        return next;
+    }
+
+    /// Called on the watch thread with the re-parsed state after the file was
+    /// replaced by someone else. Not called for [#update].
+    public void onExternalChange(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    /// Starts watching the config's directory for outside edits. Idempotent.
+    public synchronized void watch() throws IOException {
+        if (watcher != null) return;
+        Path dir = file.getParent();
+        Files.createDirectories(dir);
+        WatchService service = dir.getFileSystem().newWatchService();
+        dir.register(service, ENTRY_CREATE, ENTRY_MODIFY);
+        watcher = Thread.ofPlatform().daemon().name("Aurora-ConfigWatch").start(() -> watchLoop(service));
+    }
+
+    // ---------------------------------------------------------------------
+
+    private synchronized State load() throws IOException {
+        if (state == null) {
+            stamp = stamp();
+            state = stamp == null ? State.EMPTY : parse();
+        }
+        return state;
+    }
+
+    private void watchLoop(WatchService service) {
+        try (service) {
+            while (true) {
+                WatchKey key = service.take();
+                boolean ours = touchesFile(key);
+                // editors and other launchers write in bursts; wait for quiet
+                WatchKey more;
+                while ((more = service.poll(QUIET_MS, TimeUnit.MILLISECONDS)) != null) {
+                    ours |= touchesFile(more);
+                    if (!more.reset()) return;
+                }
+                if (!key.reset()) return;
+                if (ours) reloadIfChanged();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // shutting down
+        } catch (IOException e) {
+            error("Config watch on %s stopped: %s", file, e);
+        }
+    }
+
+    private boolean touchesFile(WatchKey key) {
+        boolean hit = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || file.getFileName().equals(event.context())) hit = true;
+        }
+        return hit;
+    }
+
+    private void reloadIfChanged() {
+        State next;
+        synchronized (this) {
+            try {
+                Stamp now = stamp();
+                if (now == null || now.equals(stamp)) return;
+                next = parse();
+                stamp = now;
+                state = next;
+            } catch (IOException e) {
+                // a writer that doesn't rename can leave a half-written file; keep what we have
+                error("Ignoring unreadable %s: %s", file, e.getMessage());
+                return;
+            }
+        }
+        info("%s changed on disk — reloaded", file.getFileName());
+        for (Consumer<State> listener : listeners) {
+            try {
+                listener.accept(next);
+            } catch (Exception e) {
+                error("Config listener failed: %s", e);
+            }
+        }
+    }
+
+    private Stamp stamp() throws IOException {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            return new Stamp(attrs.fileKey(), attrs.lastModifiedTime(), attrs.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private State parse() throws IOException {
+        AnvilModule module;
+        try {
+            module = Anvil.parse(file);
+        } catch (Exception e) {
+            throw new IOException("Failed to parse " + file, e);
+        }
+        AnvilValue authValue = module.getObject("auth");
+        if (authValue == null) return State.EMPTY;
+        AnvilObject auth = authValue.asObject();
+        String uuid = text(auth, "uuid");
+        Session session = new Session(
+                text(auth, "access_token"),
+                text(auth, "username"),
+                uuid != null ? uuid.replace("-", "") : null,
+                text(auth, "client_id"),
+                text(auth, "xuid"),
+                number(auth, "expires_at"));
+
+        XboxTokens xbox = XboxTokens.NONE;
+        AnvilValue xboxValue = module.getObject("xbox");
+        if (xboxValue != null) {
+            AnvilObject x = xboxValue.asObject();
+            xbox = new XboxTokens(
+                    text(x, "ms_token"), number(x, "ms_expires_at"),
+                    text(x, "xbl_token"), number(x, "xbl_expires_at"),
+                    text(x, "xsts_token"), number(x, "xsts_expires_at"),
+                    text(x, "uhs"));
+        }
+        return new State(session.accessToken() != null ? session : null, text(auth, "refresh_token"), xbox);
+    }
+
+    private void write(State next) throws IOException {
+        Path dir = file.getParent();
+        Files.createDirectories(dir);
+        // same directory, so the rename below never crosses a filesystem
+        Path temp = Files.createTempFile(dir, "." + file.getFileName(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer bytes = ByteBuffer.wrap(render(next).getBytes(StandardCharsets.UTF_8));
+                while (bytes.hasRemaining()) channel.write(bytes);
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        stamp = stamp();
+    }
+
+    private static String render(State state) {
+        Session s = state.session();
+        XboxTokens x = state.xbox();
+        return """
+                #!aml
+                
+                auth := {
+                  access_token := "%s"
+                  refresh_token := "%s"
+                  username      := "%s"
+                  uuid          := "%s"
+                  xuid          := "%s"
+                  client_id     := "%s"
+                  expires_at    := %d
+                }
+                
+                xbox := {
+                  ms_token        := "%s"
+                  ms_expires_at   := %d
+                  xbl_token       := "%s"
+                  xbl_expires_at  := %d
+                  xsts_token      := "%s"
+                  xsts_expires_at := %d
+                  uhs             := "%s"
+                }
+                """.formatted(
+                orEmpty(s == null ? null : s.accessToken()),
+                orEmpty(state.refreshToken()),
+                orEmpty(s == null ? null : s.username()),
+                orEmpty(s == null ? null : s.uuid()),
+                orEmpty(s == null ? null : s.xuId()),
+                orEmpty(s == null ? null : s.clientId()),
+                s == null ? 0 : s.expiresAt(),
+                orEmpty(x.msToken()), x.msExpiresAt(),
+                orEmpty(x.xblToken()), x.xblExpiresAt(),
+                orEmpty(x.xstsToken()), x.xstsExpiresAt(),
+                orEmpty(x.uhs()));
+    }
+
+    private static String text(AnvilObject object, String key) {
+        String value = object.getString(key);
+        return value == null || value.isEmpty() || "null".equals(value) ? null : value;
+    }
+
+    private static long number(AnvilObject object, String key) {
+        String value = object.getString(key);
+        if (value == null || value.isEmpty()) return 0;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
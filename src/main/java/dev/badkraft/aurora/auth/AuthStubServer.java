@@ -0,0 +1,309 @@
+/// src/main/java/dev/badkraft/aurora/auth/AuthStubServer.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.auth;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/// An in-process stand-in for the Microsoft, Xbox Live and Minecraft services.
+///
+/// Serves the five steps of the chain on loopback under the production paths
+/// (see [AuthEndpoints#rebased]), issuing opaque tokens with real expiries and
+/// rejecting expired or unknown ones with a 401, so the client's caching and
+/// fallback paths behave exactly as they would against the real thing.
+/// [Options] adds per-request latency and random failures; [#revokeAll()]
+/// invalidates everything issued so far, like a password change would.
+///
+/// ```java
+/// try (var stub = AuthStubServer.start(AuthStubServer.Options.defaults())) {
+///     MinecraftAuth.useEndpoints(stub.endpoints());
+///     ...
+/// }
+/// ```
+public final class AuthStubServer implements AutoCloseable {
+
+    /// One hop of the chain, in the order the client walks it.
+    public enum Step { TOKEN, XBL, XSTS, LOGIN, PROFILE }
+
+    /// @param latency    fixed delay added to every response
+    /// @param jitter     up to this much extra delay, uniformly random
+    /// @param errorRate  fraction of requests (0..1) answered with `errorStatus`
+    /// @param errorStatus HTTP status of an injected failure
+    /// @param msLifetime lifetime of issued MS access tokens; likewise for the rest
+    public record Options(
+            Duration latency,
+            Duration jitter,
+            double errorRate,
+            int errorStatus,
+            Duration msLifetime,
+            Duration xblLifetime,
+            Duration xstsLifetime,
+            Duration minecraftLifetime) {
+
+        /// No delay, no failures, production-like lifetimes.
+        public static Options defaults() {
+            return new Options(Duration.ZERO, Duration.ZERO, 0, 503,
+                    Duration.ofHours(1), Duration.ofDays(14), Duration.ofHours(16), Duration.ofHours(24));
+        }
+
+        public Options withLatency(Duration latency, Duration jitter) {
+            return new Options(latency, jitter, errorRate, errorStatus, msLifetime, xblLifetime, xstsLifetime, minecraftLifetime);
+        }
+
+        public Options withErrors(double errorRate, int errorStatus) {
+            return new Options(latency, jitter, errorRate, errorStatus, msLifetime, xblLifetime, xstsLifetime, minecraftLifetime);
+        }
+
+        public Options withLifetimes(Duration ms, Duration xbl, Duration xsts, Duration minecraft) {
+            return new Options(latency, jitter, errorRate, errorStatus, ms, xbl, xsts, minecraft);
+        }
+    }
+
+    private static final String UHS = "1234567890123456";
+    private static final String PROFILE_ID = "0123456789abcdef0123456789abcdef";
+    private static final String PROFILE_NAME = "AuroraStub";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Long> issued = new ConcurrentHashMap<>();
+    private final Map<Step, LongAdder> requests = new EnumMap<>(Step.class);
+    private final Map<Step, LongAdder> failures = new EnumMap<>(Step.class);
+    private volatile Options options;
+
+    private AuthStubServer(HttpServer server, Options options) {
+        this.server = server;
+        this.options = options;
+        for (Step step : Step.values()) {
+            requests.put(step, new LongAdder());
+            failures.put(step, new LongAdder());
+        }
+    }
+
+    /// Binds an ephemeral loopback port and starts serving.
+    public static AuthStubServer start(Options options) throws IOException {
+        // Headers and body go out as two writes; without TCP_NODELAY the second waits on
+        // the client's delayed ACK and every stubbed hop costs ~40ms of pure Nagle.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        AuthStubServer stub = new AuthStubServer(http, options);
+        http.createContext(AuthEndpoints.TOKEN_PATH, ex -> stub.serve(ex, Step.TOKEN));
+        http.createContext(AuthEndpoints.XBL_PATH, ex -> stub.serve(ex, Step.XBL));
+        http.createContext(AuthEndpoints.XSTS_PATH, ex -> stub.serve(ex, Step.XSTS));
+        http.createContext(AuthEndpoints.LOGIN_PATH, ex -> stub.serve(ex, Step.LOGIN));
+        http.createContext(AuthEndpoints.PROFILE_PATH, ex -> stub.serve(ex, Step.PROFILE));
+        http.setExecutor(stub.executor);
+        http.start();
+        return stub;
+    }
+
+    public URI baseUri() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    public AuthEndpoints endpoints() {
+        return AuthEndpoints.rebased(baseUri());
+    }
+
+    public Options options() {
+        return options;
+    }
+
+    /// Takes effect from the next request.
+    public void options(Options next) {
+        options = next;
+    }
+
+    /// Requests received for `step`, including injected and genuine failures.
+    public long requests(Step step) {
+        return requests.get(step).sum();
+    }
+
+    public long failures(Step step) {
+        return failures.get(step).sum();
+    }
+
+    public long totalRequests() {
+        long total = 0;
+        for (LongAdder adder : requests.values()) total += adder.sum();
+        return total;
+    }
+
+    /// Forgets every token issued so far; clients holding one get a 401.
+    public void revokeAll() {
+        issued.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    // ---------------------------------------------------------------------
+
+    private void serve(HttpExchange exchange, Step step) throws IOException {
+        requests.get(step).increment();
+        try (exchange) {
+            Options opts = options;
+            delay(opts);
+            if (opts.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < opts.errorRate()) {
+                reply(exchange, step, opts.errorStatus(), "{\"error\":\"injected\"}");
+                return;
+            }
+            String response;
+            try (InputStream in = exchange.getRequestBody()) {
+                String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                response = switch (step) {
+                    case TOKEN   -> token(body, opts);
+                    case XBL     -> xbl(body, opts);
+                    case XSTS    -> xsts(body, opts);
+                    case LOGIN   -> login(body, opts);
+                    case PROFILE -> profile(exchange.getRequestHeaders().getFirst("Authorization"));
+                };
+            } catch (RuntimeException e) {
+                reply(exchange, step, 400, "{\"error\":\"bad_request\"}");
+                return;
+            }
+            if (response == null) {
+                reply(exchange, step, 401, "{\"error\":\"invalid_grant\"}");
+            } else {
+                reply(exchange, step, 200, response);
+            }
+        }
+    }
+
+    private String token(String form, Options opts) {
+        String grant = formParam(form, "grant_type");
+        if ("authorization_code".equals(grant)) {
+            if (formParam(form, "code") == null) return null;
+        } else if ("refresh_token".equals(grant)) {
+            // refresh tokens don't expire on their own, but revokeAll() kills them
+            if (!issued.containsKey(formParam(form, "refresh_token"))) return null;
+        } else {
+            return null;
+        }
+        String access = issue("ms", opts.msLifetime());
+        String refresh = issue("refresh", Duration.ofDays(90));
+        return "{\"token_type\":\"bearer\",\"access_token\":\"%s\",\"refresh_token\":\"%s\",\"expires_in\":%d}"
+                .formatted(access, refresh, opts.msLifetime().toSeconds());
+    }
+
+    private String xbl(String json, Options opts) {
+        String ticket = JsonParser.parseString(json).getAsJsonObject()
+                .getAsJsonObject("Properties").get("RpsTicket").getAsString();
+        if (!valid(ticket.startsWith("d=") ? ticket.substring(2) : ticket)) return null;
+        return xboxToken(issue("xbl", opts.xblLifetime()), opts.xblLifetime());
+    }
+
+    private String xsts(String json, Options opts) {
+        String user = JsonParser.parseString(json).getAsJsonObject()
+                .getAsJsonObject("Properties").getAsJsonArray("UserTokens").get(0).getAsString();
+        if (!valid(user)) return null;
+        return xboxToken(issue("xsts", opts.xstsLifetime()), opts.xstsLifetime());
+    }
+
+    private String login(String json, Options opts) {
+        JsonObject request = JsonParser.parseString(json).getAsJsonObject();
+        String identity = request.get("identityToken").getAsString();   // XBL3.0 x=<uhs>;<xsts>
+        int semi = identity.indexOf(';');
+        if (!identity.startsWith("XBL3.0 x=" + UHS + ";") || !valid(identity.substring(semi + 1))) return null;
+        return "{\"username\":\"%s\",\"access_token\":\"%s\",\"token_type\":\"Bearer\",\"expires_in\":%d}"
+                .formatted(UUID.randomUUID(), issue("mc", opts.minecraftLifetime()), opts.minecraftLifetime().toSeconds());
+    }
+
+    private String profile(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) return null;
+        if (!valid(authorization.substring("Bearer ".length()))) return null;
+        return "{\"id\":\"%s\",\"name\":\"%s\",\"skins\":[],\"capes\":[]}".formatted(PROFILE_ID, PROFILE_NAME);
+    }
+
+    private String xboxToken(String token, Duration lifetime) {
+        long now = System.currentTimeMillis();
+        return "{\"IssueInstant\":\"%s\",\"NotAfter\":\"%s\",\"Token\":\"%s\",\"DisplayClaims\":{\"xui\":[{\"uhs\":\"%s\"}]}}"
+                .formatted(Instant.ofEpochMilli(now), Instant.ofEpochMilli(now + lifetime.toMillis()), token, UHS);
+    }
+
+    private String issue(String kind, Duration lifetime) {
+        String token = kind + "-" + UUID.randomUUID();
+        issued.put(token, System.currentTimeMillis() + lifetime.toMillis());
+        return token;
+    }
+
+    private boolean valid(String token) {
+        Long expiresAt = token == null ? null : issued.get(token);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private void reply(HttpExchange exchange, Step step, int status, String json) throws IOException {
+        if (status >= 400) failures.get(step).increment();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void delay(Options opts) {
+        long nanos = opts.latency().toNanos();
+        long jitter = opts.jitter().toNanos();
+        if (jitter > 0) nanos += ThreadLocalRandom.current().nextLong(jitter + 1);
+        if (nanos <= 0) return;
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String formParam(String form, String key) {
+        for (String pair : form.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(key)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
@@ -23,16 +23,20 @@ package dev.badkraft.aurora.auth;
 
 import com.google.gson.*;
 import com.sun.net.httpserver.HttpServer;
+import dev.badkraft.aurora.utils.Http;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.*;
 import java.net.http.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.*;
 
-import static dev.badkraft.aurora.Loader.extractValue;
 import static dev.badkraft.aurora.Loader.log;
 
 public class MinecraftAuth {
@@ -41,24 +45,38 @@ public class MinecraftAuth {
     private static final String CLIENT_ID     = "3963c466-60f2-4cf4-928e-287187933c94";
     private static final String MC_CLIENT_ID  = "00000000441cc96b";
     private static final String REDIRECT_URI  = "http://localhost:8080/";
-    private static final String TENANT        = "consumers";
 
-    private static final HttpClient HTTP = HttpClient.newHttpClient();
     private static final Gson GSON = new Gson();
 
+    private static final ReentrantLock REFRESH_LOCK = new ReentrantLock();
+    private static volatile AuthEndpoints endpoints = AuthEndpoints.fromSystemProperties();
+
     record TokenResponse(String access_token, String refresh_token, int expires_in) {}
-    record XblResponse(String Token, JsonObject DisplayClaims) {}
-    record XstsResponse(String Token, JsonObject DisplayClaims) {}
+    record XblResponse(String Token, String NotAfter, JsonObject DisplayClaims) {}
+    record XstsResponse(String Token, String NotAfter, JsonObject DisplayClaims) {}
     record McAuthResponse(String access_token, int expires_in) {}
     record McProfile(String id, String name) {}
 
+    public static AuthEndpoints endpoints() {
+        return endpoints;
+    }
+
+    /// Points the whole chain somewhere else — a stub server, a corporate proxy.
+    public static void useEndpoints(AuthEndpoints next) {
+        endpoints = next;
+    }
+
+    /// `config.aurora` in the working directory unless `aurora.auth.config` says otherwise.
+    public static Path configFile() {
+        return Paths.get(System.getProperty("aurora.auth.config", "config.aurora"));
+    }
+
     public static void loginAndSave() throws Exception {
         log("[Aurora] Starting Microsoft login...");
 
         String authUrl = String.format(
-                "https://login.microsoftonline.com/%s/oauth2/v2.0/authorize?" +
-                        "client_id=%s&response_type=code&redirect_uri=%s&scope=%s",
-                TENANT,
+                "%s?client_id=%s&response_type=code&redirect_uri=%s&scope=%s",
+                endpoints.authorize(),
                 CLIENT_ID,
                 URLEncoder.encode(REDIRECT_URI, StandardCharsets.UTF_8),
                 URLEncoder.encode("XboxLive.signin offline_access", StandardCharsets.UTF_8)
@@ -83,129 +101,208 @@ public class MinecraftAuth {
         String code = codeFuture.get();
         server.stop(0);
 
-        TokenResponse ms      = exchangeCode(code);
-        XblResponse   xbl     = getXbl(ms.access_token);
-        XstsResponse  xsts    = getXsts(xbl.Token);
-        McAuthResponse mc     = authenticateMinecraft(getUhs(xbl.DisplayClaims), xsts.Token);
-        McProfile     profile = getProfile(mc.access_token);
-        String xuid           = getXuid(xbl.DisplayClaims);
-
-        Path config = Paths.get("config.aurora");
-        String content = """
-                #!aml
-                
-                auth := {
-                  access_token := "%s"
-                  refresh_token := "%s"
-                  username      := "%s"
-                  uuid          := "%s"
-                  xuid          := "%s"
-                  client_id     := "%s"
-                  expires_at    := %d
-                }
-                """.formatted(
-                mc.access_token,
-                ms.refresh_token,
-                profile.name,
-                profile.id,
-                xuid,
-                MC_CLIENT_ID,
-                Instant.now().getEpochSecond() + mc.expires_in
-        );
-        Files.writeString(config, content);
-        log("[Aurora] Login successful – config.aurora written.");
+        completeLogin(code);
     }
 
-    private static String getXuid(JsonObject claims) {
-        JsonArray xui = claims.getAsJsonArray("xui");
-        if (xui == null || xui.isEmpty()) {
-            log("[Auth] No xui array — this should not happen");
-            return "2535444887286849";
-        }
-        JsonObject user = xui.get(0).getAsJsonObject();
-        // 2024–2025: Microsoft removed "xid", only "uhs" is returned
-        // Minecraft accepts the raw uhs as auth_xuid
-        return user.get("uhs").getAsString();
+    /// The token half of the login: everything after the browser hands back `code`.
+    static void completeLogin(String code) throws Exception {
+        Chain chain = new Chain();
+        chain.ms(exchangeCode(code), Instant.now().getEpochSecond());
+        chain.xbl(getXbl(chain.msToken));
+        chain.xsts(getXsts(chain.xblToken));
+        McAuthResponse mc     = authenticateMinecraft(chain.uhs, chain.xstsToken);
+        McProfile     profile = getProfile(mc.access_token);
+
+        save(chain, mc, profile);
+        log("[Aurora] Login successful – %s written.", configFile());
     }
 
     public static void refreshSession() throws Exception {
         log("[Aurora] Refreshing session...");
-        Path config = Paths.get("config.aurora");
-        if (!Files.exists(config)) {
-            log("[Aurora] No config.aurora – starting full login");
+        String refreshToken = AuthStore.get().state().refreshToken();
+        if (refreshToken == null) {
+            log("[Aurora] No refresh token in %s – starting full login", configFile());
             loginAndSave();
             return;
         }
+        refresh();
+    }
 
-        String content = Files.readString(config);
-        String refreshToken = extractValue(content, "refresh_token");
-        if (refreshToken == null || refreshToken.isEmpty() || "null".equals(refreshToken)) {
-            log("[Aurora] Invalid refresh token – full login required");
-            loginAndSave();
-            return;
+    /// Like [#refreshSession()], but never falls back to the browser login —
+    /// throws instead, so a background caller can back off and retry.
+    public static void refreshSilently() throws Exception {
+        if (AuthStore.get().state().refreshToken() == null) {
+            throw new IllegalStateException("No refresh token in " + configFile());
+        }
+        refresh();
+    }
+
+    /// Serialised: two refreshes racing on one refresh token would each burn
+    /// it, and the loser would be left holding a revoked one. A lock rather
+    /// than `synchronized` so a virtual thread waiting on the network doesn't
+    /// pin its carrier.
+    private static void refresh() throws Exception {
+        REFRESH_LOCK.lock();
+        try {
+            refreshLocked();
+        } finally {
+            REFRESH_LOCK.unlock();
         }
+    }
 
-        TokenResponse ms = refreshMsToken(refreshToken);
-        XblResponse xbl = getXbl(ms.access_token);
-        XstsResponse xsts = getXsts(xbl.Token);
-        McAuthResponse mc = authenticateMinecraft(getUhs(xbl.DisplayClaims), xsts.Token);
+    private static void refreshLocked() throws Exception {
+        Chain chain = Chain.from(AuthStore.get().state());
+
+        int reused = advance(chain);
+        McAuthResponse mc;
+        try {
+            mc = authenticateMinecraft(chain.uhs, chain.xstsToken);
+        } catch (RuntimeException e) {
+            if (reused == 0) throw e;
+            // A cached token can be revoked before it expires — walk the whole chain once more.
+            log("[Aurora] Cached Xbox tokens rejected (%s) – re-deriving", e.getMessage());
+            chain.forget();
+            reused = advance(chain);
+            mc = authenticateMinecraft(chain.uhs, chain.xstsToken);
+        }
         McProfile profile = getProfile(mc.access_token);
 
-        long expiresAt = Instant.now().getEpochSecond() + mc.expires_in;
-        String newContent = """
-                #!aml
-                
-                auth := {
-                  access_token := "%s"
-                  refresh_token := "%s"
-                  username      := "%s"
-                  uuid          := "%s"
-                  client_id     := "%s"
-                  expires_at    := %d
-                }
-                """.formatted(mc.access_token, ms.refresh_token, profile.name, profile.id, CLIENT_ID, expiresAt);
+        save(chain, mc, profile);
+        log("[Aurora] Session refreshed – %s (%d of 3 hops cached)", profile.name, reused);
+    }
 
-        Files.writeString(config, newContent);
-        log("[Aurora] Session refreshed – %s", profile.name);
+    /// Brings `chain` up to a usable XSTS token, re-deriving only the hops that
+    /// have expired. Each hop outlives the one after it — XBL is good for about
+    /// two weeks, XSTS for most of a day, the MS token for an hour — so a
+    /// typical refresh goes straight to `login_with_xbox`.
+    ///
+    /// @return how many of the three hops were served from the cache
+    private static int advance(Chain chain) throws Exception {
+        long now = Instant.now().getEpochSecond();
+        if (chain.uhs != null && Chain.usable(chain.xstsToken, chain.xstsExpiresAt, now)) return 3;
+        int reused = 2;
+        if (chain.uhs == null || !Chain.usable(chain.xblToken, chain.xblExpiresAt, now)) {
+            reused = 1;
+            if (!Chain.usable(chain.msToken, chain.msExpiresAt, now)) {
+                reused = 0;
+                chain.ms(refreshMsToken(chain.refreshToken), now);
+            }
+            chain.xbl(getXbl(chain.msToken));
+        }
+        chain.xsts(getXsts(chain.xblToken));
+        return reused;
+    }
+
+    private static void save(Chain chain, McAuthResponse mc, McProfile profile) throws Exception {
+        Session session = new Session(
+                mc.access_token,
+                profile.name,
+                profile.id,
+                MC_CLIENT_ID,
+                chain.uhs,      // Microsoft no longer returns "xid"; Minecraft accepts the uhs as auth_xuid
+                Instant.now().getEpochSecond() + mc.expires_in);
+        AuthStore.get().update(state -> new AuthStore.State(session, chain.refreshToken, chain.tokens()));
+    }
+
+    /// The intermediate tokens between the Microsoft refresh token and the
+    /// Minecraft access token, each with its own expiry in epoch seconds.
+    private static final class Chain {
+        /// Don't hand out a token that expires before the next hop can use it.
+        private static final long SKEW_SECONDS = 60;
+
+        String refreshToken;
+        String msToken;
+        long msExpiresAt;
+        String xblToken;
+        long xblExpiresAt;
+        String xstsToken;
+        long xstsExpiresAt;
+        String uhs;
+
+        static Chain from(AuthStore.State state) {
+            Chain chain = new Chain();
+            AuthStore.XboxTokens x = state.xbox();
+            chain.refreshToken = state.refreshToken();
+            chain.msToken = x.msToken();
+            chain.msExpiresAt = x.msExpiresAt();
+            chain.xblToken = x.xblToken();
+            chain.xblExpiresAt = x.xblExpiresAt();
+            chain.xstsToken = x.xstsToken();
+            chain.xstsExpiresAt = x.xstsExpiresAt();
+            chain.uhs = x.uhs();
+            return chain;
+        }
+
+        AuthStore.XboxTokens tokens() {
+            return new AuthStore.XboxTokens(msToken, msExpiresAt, xblToken, xblExpiresAt, xstsToken, xstsExpiresAt, uhs);
+        }
+
+        static boolean usable(String token, long expiresAt, long now) {
+            return token != null && expiresAt - SKEW_SECONDS > now;
+        }
+
+        void ms(TokenResponse ms, long now) {
+            msToken = ms.access_token;
+            msExpiresAt = now + ms.expires_in;
+            if (ms.refresh_token != null) refreshToken = ms.refresh_token;
+        }
+
+        void xbl(XblResponse xbl) {
+            xblToken = xbl.Token;
+            xblExpiresAt = notAfter(xbl.NotAfter);
+            uhs = getUhs(xbl.DisplayClaims);
+        }
+
+        void xsts(XstsResponse xsts) {
+            xstsToken = xsts.Token;
+            xstsExpiresAt = notAfter(xsts.NotAfter);
+        }
+
+        void forget() {
+            msToken = xblToken = xstsToken = null;
+            msExpiresAt = xblExpiresAt = xstsExpiresAt = 0;
+        }
+
+        private static long notAfter(String timestamp) {
+            try {
+                return timestamp == null ? 0 : Instant.parse(timestamp).getEpochSecond();
+            } catch (DateTimeParseException e) {
+                return 0;   // unknown expiry — use it for this refresh, never cache it
+            }
+        }
     }
 
     private static TokenResponse exchangeCode(String code) throws Exception {
         String body = "client_id=%s&code=%s&redirect_uri=%s&grant_type=authorization_code"
                 .formatted(CLIENT_ID, code, REDIRECT_URI);
-        String json = post("https://login.microsoftonline.com/consumers/oauth2/v2.0/token", body, "application/x-www-form-urlencoded");
-        return GSON.fromJson(json, TokenResponse.class);
+        return post(endpoints.token(), body, "application/x-www-form-urlencoded", TokenResponse.class);
     }
 
     private static TokenResponse refreshMsToken(String refreshToken) throws Exception {
         String body = "client_id=%s&refresh_token=%s&grant_type=refresh_token".formatted(CLIENT_ID, refreshToken);
-        String json = post("https://login.microsoftonline.com/consumers/oauth2/v2.0/token", body, "application/x-www-form-urlencoded");
-        return GSON.fromJson(json, TokenResponse.class);
+        return post(endpoints.token(), body, "application/x-www-form-urlencoded", TokenResponse.class);
     }
 
     private static XblResponse getXbl(String msToken) throws Exception {
         String payload = "{\"Properties\":{\"AuthMethod\":\"RPS\",\"SiteName\":\"user.auth.xboxlive.com\",\"RpsTicket\":\"d=%s\"},\"RelyingParty\":\"http://auth.xboxlive.com\",\"TokenType\":\"JWT\"}"
                 .formatted(msToken);
-        String json = postJson("https://user.auth.xboxlive.com/user/authenticate", payload);
-        return GSON.fromJson(json, XblResponse.class);
+        return postJson(endpoints.xbl(), payload, XblResponse.class);
     }
 
     private static XstsResponse getXsts(String xblToken) throws Exception {
         String payload = "{\"Properties\":{\"SandboxId\":\"RETAIL\",\"UserTokens\":[\"%s\"]},\"RelyingParty\":\"rp://api.minecraftservices.com/\",\"TokenType\":\"JWT\"}"
                 .formatted(xblToken);
-        String json = postJson("https://xsts.auth.xboxlive.com/xsts/authorize", payload);
-        return GSON.fromJson(json, XstsResponse.class);
+        return postJson(endpoints.xsts(), payload, XstsResponse.class);
     }
 
     private static McAuthResponse authenticateMinecraft(String uhs, String xstsToken) throws Exception {
         String payload = "{\"identityToken\":\"XBL3.0 x=%s;%s\"}".formatted(uhs, xstsToken);
-        String json = postJson("https://api.minecraftservices.com/authentication/login_with_xbox", payload);
-        return GSON.fromJson(json, McAuthResponse.class);
+        return postJson(endpoints.minecraftLogin(), payload, McAuthResponse.class);
     }
 
     // CORRECT ENDPOINT — Minecraft profile by token
     private static McProfile getProfile(String mcToken) throws Exception {
-        String json = get("https://api.minecraftservices.com/minecraft/profile", mcToken);
-        return GSON.fromJson(json, McProfile.class);
+        return get(endpoints.minecraftProfile(), mcToken, McProfile.class);
     }
 
     private static String getUhs(JsonObject claims) {
@@ -219,28 +316,38 @@ public class MinecraftAuth {
         return m.find() ? m.group(1) : null;
     }
 
-    private static String post(String url, String body, String contentType) throws Exception {
-        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+    private static <T> T post(URI url, String body, String contentType, Class<T> type) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(url)
                 .header("Content-Type", contentType)
+                .header("Accept", "application/json")
                 .POST(HttpRequest.BodyPublishers.ofString(body))
                 .build();
-        HttpResponse<String> resp = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
-        if (resp.statusCode() >= 400) throw new RuntimeException("HTTP " + resp.statusCode() + ": " + resp.body());
-        return resp.body();
+        return send(request, type);
     }
 
-    private static String postJson(String url, String json) throws Exception {
-        return post(url, json, "application/json");
+    private static <T> T postJson(URI url, String json, Class<T> type) throws Exception {
+        return post(url, json, "application/json", type);
     }
 
-    private static String get(String url, String token) throws Exception {
+    private static <T> T get(URI url, String token, Class<T> type) throws Exception {
         if (token == null || token.isBlank()) throw new IllegalArgumentException("Missing token");
-        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+        HttpRequest request = HttpRequest.newBuilder(url)
                 .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json")
                 .GET()
                 .build();
-        HttpResponse<String> resp = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
-        if (resp.statusCode() >= 400) throw new RuntimeException("HTTP " + resp.statusCode() + ": " + resp.body());
-        return resp.body();
+        return send(request, type);
+    }
+
+    /// Binds the response body straight onto `type` as it streams in — no
+    /// intermediate `String` or `JsonObject` tree for the fields we ignore.
+    private static <T> T send(HttpRequest request, Class<T> type) throws Exception {
+        HttpResponse<InputStream> resp = Http.CLIENT.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream in = resp.body()) {
+            if (resp.statusCode() >= 400) {
+                throw new RuntimeException("HTTP " + resp.statusCode() + ": " + new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            return GSON.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), type);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,247 @@
+/// src/main/java/dev/badkraft/aurora/auth/SessionManager.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.auth;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Keeps a valid Minecraft session around without holding up the launch.
+///
+/// A virtual thread owns the session: it loads `config.aurora`, refreshes the
+/// token `aurora.session.refreshMargin` seconds (default 300) before it
+/// expires — plus up to `aurora.session.refreshJitter` seconds (default 120)
+/// of jitter so a farm of launchers doesn't refresh in lockstep — and sleeps
+/// until the next refresh is due. Launch only waits in [#awaitSession()]
+/// when there is no valid token at all.
+///
+/// Failed refreshes back off exponentially (30s up to 10 minutes) and keep the
+/// current token. Only when a launch is blocked on an expired session and
+/// refreshing has failed [#INTERACTIVE_AFTER] times does it fall back to the
+/// browser login.
+public final class SessionManager {
+    private static final long MARGIN_SECONDS = Long.getLong("aurora.session.refreshMargin", 300);
+    private static final long JITTER_SECONDS = Long.getLong("aurora.session.refreshJitter", 120);
+    private static final long MIN_BACKOFF_SECONDS = 30;
+    private static final long MAX_BACKOFF_SECONDS = 600;
+    private static final int INTERACTIVE_AFTER = 3;
+    private static final long WAITING_RETRY_SECONDS = 2;
+    /// a token this close to expiry is not handed to a launch
+    private static final long MIN_VALIDITY_SECONDS = 60;
+
+    private static final SessionManager INSTANCE = new SessionManager(AuthStore.get());
+
+    private final AuthStore store;
+    private final boolean interactive;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Condition wake = lock.newCondition();
+    private final List<Consumer<Session>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Session session;
+    private volatile Thread refresher;
+    private volatile boolean running;
+    private volatile boolean waiting;
+    private boolean wakeRequested;
+
+    SessionManager(AuthStore store) {
+        this(store, true);
+    }
+
+    /// @param interactive whether the browser login may be used at all; when
+    ///                    false the manager only ever refreshes silently
+    SessionManager(AuthStore store, boolean interactive) {
+        this.store = store;
+        this.interactive = interactive;
+    }
+
+    public static SessionManager get() {
+        return INSTANCE;
+    }
+
+    /// Called with every newly loaded or refreshed session, on the refresh thread.
+    public void onRefresh(Consumer<Session> listener) {
+        listeners.add(listener);
+    }
+
+    public Session current() {
+        return session;
+    }
+
+    public synchronized void start() {
+        if (refresher != null) return;
+        running = true;
+        try {
+            // another launcher refreshing the same account saves us a round trip
+            store.onExternalChange(state -> {
+                if (state.session() != null) publish(state.session());
+            });
+            store.watch();
+        } catch (Exception e) {
+            error("Not watching %s for outside changes: %s", store.file(), e);
+        }
+        refresher = Thread.ofVirtual().name("Aurora-SessionRefresh").start(this::refreshLoop);
+    }
+
+    public void stop() {
+        running = false;
+        wake();
+    }
+
+    /// Returns a session valid for at least a minute, blocking only while none exists.
+    public Session awaitSession() throws InterruptedException {
+        start();
+        Session current = session;
+        if (current != null && current.isValidFor(MIN_VALIDITY_SECONDS)) return current;
+
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            waiting = true;
+            // cut a backoff pause short: a launch is blocked on us now
+            wakeRequested = true;
+            wake.signalAll();
+            while ((current = session) == null || !current.isValidFor(MIN_VALIDITY_SECONDS)) {
+                changed.await();
+            }
+        } finally {
+            waiting = false;
+            lock.unlock();
+        }
+        info("Session ready after %dms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return current;
+    }
+
+    private void refreshLoop() {
+        int failures = 0;
+        long jitter = jitter();
+        while (running) {
+            try {
+                Session current = session;
+                if (current == null && (current = read()) != null) {
+                    publish(current);
+                }
+                if (current == null) {
+                    if (!interactive) throw new IllegalStateException("No session in " + store.file());
+                    info("No login found. Starting MS Login ...");
+                    MinecraftAuth.loginAndSave();
+                    publish(read());
+                    failures = 0;
+                    jitter = jitter();
+                    continue;
+                }
+
+                long now = System.currentTimeMillis() / 1000;
+                long refreshAt = current.expiresAt() - MARGIN_SECONDS - jitter;
+                if (failures == 0 && now < refreshAt) {
+                    info("Session valid until %d; next refresh in %ds", current.expiresAt(), refreshAt - now);
+                    pause(refreshAt - now);
+                    continue;
+                }
+
+                if (interactive && failures >= INTERACTIVE_AFTER && waiting && !current.isValidFor(MIN_VALIDITY_SECONDS)) {
+                    info("Refresh failed %d times and launch is waiting — starting MS Login ...", failures);
+                    MinecraftAuth.loginAndSave();
+                } else {
+                    info("Refreshing session in the background ...");
+                    MinecraftAuth.refreshSilently();
+                }
+                publish(read());
+                failures = 0;
+                jitter = jitter();
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                failures++;
+                long backoff = Math.min(MAX_BACKOFF_SECONDS, MIN_BACKOFF_SECONDS << Math.min(failures - 1, 10));
+                backoff += ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+                if (waiting) {
+                    // a launch is blocked: retry quickly, then hand over to the browser login
+                    if (interactive && failures == INTERACTIVE_AFTER) continue;
+                    backoff = WAITING_RETRY_SECONDS;
+                }
+                error("Session refresh failed (%d): %s — retrying in %ds", failures, e, backoff);
+                try {
+                    pause(backoff);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static long jitter() {
+        return JITTER_SECONDS > 0 ? ThreadLocalRandom.current().nextLong(JITTER_SECONDS + 1) : 0;
+    }
+
+    /// Sleeps up to `seconds`, returning early on [#stop()] or when a launch starts waiting.
+    private void pause(long seconds) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.SECONDS.toNanos(seconds);
+            while (nanos > 0 && running && !wakeRequested) {
+                nanos = wake.awaitNanos(nanos);
+            }
+            wakeRequested = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void wake() {
+        lock.lock();
+        try {
+            wakeRequested = true;
+            wake.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publish(Session next) {
+        lock.lock();
+        try {
+            session = next;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Consumer<Session> listener : listeners) {
+            try {
+                listener.accept(next);
+            } catch (Exception e) {
+                error("Session listener failed: %s", e);
+            }
+        }
+    }
+
+    private Session read() throws Exception {
+        return store.state().session();
+    }
+}
@@ -0,0 +1,57 @@
+/// src/main/java/dev/badkraft/aurora/event/BlockPlacedEvent.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.event;
+
+/// `on_block_placed` — a block was placed in the world.
+/// Game objects are carried as their raw (obfuscated) instances; the
+/// position is kept as primitives so no `BlockPos` is created per event.
+public final class BlockPlacedEvent extends AuroraEvent {
+    public static final EventPool<BlockPlacedEvent> POOL = new EventPool<>(BlockPlacedEvent::new);
+
+    private Object block;
+    private Object player;
+    private int x, y, z;
+
+    public BlockPlacedEvent set(Object block, int x, int y, int z, Object player) {
+        this.block = block;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.player = player;
+        return this;
+    }
+
+    public Object block()  { return block; }
+    public Object player() { return player; }
+    public int x()         { return x; }
+    public int y()         { return y; }
+    public int z()         { return z; }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        block = null;
+        player = null;
+        x = y = z = 0;
+    }
+}
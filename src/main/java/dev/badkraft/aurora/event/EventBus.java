@@ -0,0 +1,244 @@
+/// src/main/java/dev/badkraft/aurora/event/EventBus.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.event;
+
+import dev.badkraft.aurora.metrics.Metrics;
+import dev.badkraft.aurora.profiling.ModProfiler;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+
+/// Dispatches game events to mod handlers.
+///
+/// Every event type owns a [Handlers] list holding a sorted, copy-on-write
+/// array. Registration swaps in a new array with a CAS and never blocks;
+/// dispatch reads the array once and walks it, so posting an event costs a
+/// volatile read plus one interface call per handler and allocates nothing.
+///
+/// Game hooks should resolve their list once and keep it:
+///
+///   static final EventBus.Handlers<BlockPlacedEvent> PLACED = EventBus.get().handlers(BlockPlacedEvent.class);
+///   ...
+///   if (PLACED.hasHandlers()) { acquire, post, release }
+public final class EventBus {
+    private static final EventBus INSTANCE = new EventBus();
+
+    private final Map<Class<?>, Handlers<?>> lists = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private EventBus() {
+        Metrics.register(out -> {
+            out.family("aurora_events_posted_total", "counter", "Events posted, by event type");
+            lists.forEach((type, list) -> out.sample("aurora_events_posted_total", "type", type.getSimpleName(), list.posted.sum()));
+            out.family("aurora_event_handler_failures_total", "counter", "Handler invocations that threw, by event type");
+            lists.forEach((type, list) -> out.sample("aurora_event_handler_failures_total", "type", type.getSimpleName(), list.failures.sum()));
+            out.family("aurora_event_handlers", "gauge", "Registered handlers, by event type");
+            lists.forEach((type, list) -> out.sample("aurora_event_handlers", "type", type.getSimpleName(), list.handlers.length));
+        });
+    }
+
+    public static EventBus get() {
+        return INSTANCE;
+    }
+
+    /// One registered handler. `close()` removes it from the bus.
+    public final class Registration implements AutoCloseable {
+        private final Class<?> type;
+        private final EventListener<AuroraEvent> listener;
+        private final EventPriority priority;
+        private final String owner;
+        private final ModProfiler.ModAccount account;
+        private final long order;
+
+        private Registration(Class<?> type, EventListener<AuroraEvent> listener, EventPriority priority, String owner) {
+            this.type = type;
+            this.listener = listener;
+            this.priority = priority;
+            this.owner = owner;
+            this.account = ModProfiler.account(owner);
+            this.order = sequence.getAndIncrement();
+        }
+
+        public String owner() {
+            return owner;
+        }
+
+        public EventPriority priority() {
+            return priority;
+        }
+
+        @Override
+        public void close() {
+            Handlers<?> list = lists.get(type);
+            if (list != null) list.removeIf(r -> r == this);
+        }
+    }
+
+    /// The handler list of one event type; see the class comment.
+    public static final class Handlers<E extends AuroraEvent> {
+        private static final Registration[] EMPTY = new Registration[0];
+        private static final VarHandle HANDLERS;
+
+        static {
+            try {
+                HANDLERS = MethodHandles.lookup().findVarHandle(Handlers.class, "handlers", Registration[].class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private volatile Registration[] handlers = EMPTY;
+        private final LongAdder posted = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Handlers() {}
+
+        public boolean hasHandlers() {
+            return handlers.length != 0;
+        }
+
+        /// Runs every handler in priority order. Returns whether the event ended up cancelled.
+        public boolean post(E event) {
+            Registration[] snapshot = handlers;
+            posted.increment();
+            for (Registration r : snapshot) {
+                ModProfiler.enter(r.account);
+                try {
+                    r.listener.handle(event);
+                } catch (Throwable t) {
+                    failures.increment();
+                    error("Handler of %s from '%s' failed: %s", event.getClass().getSimpleName(), r.owner, t);
+                } finally {
+                    ModProfiler.exit();
+                }
+            }
+            return event.isCancelled();
+        }
+
+        private void add(Registration registration) {
+            for (;;) {
+                Registration[] current = handlers;
+                int at = 0;
+                // stable: equal priorities keep registration order
+                while (at < current.length && current[at].priority.compareTo(registration.priority) <= 0) at++;
+                Registration[] next = new Registration[current.length + 1];
+                System.arraycopy(current, 0, next, 0, at);
+                next[at] = registration;
+                System.arraycopy(current, at, next, at + 1, current.length - at);
+                if (HANDLERS.compareAndSet(this, current, next)) return;
+            }
+        }
+
+        private int removeIf(Predicate<Registration> filter) {
+            for (;;) {
+                Registration[] current = handlers;
+                Registration[] next = Arrays.stream(current).filter(filter.negate()).toArray(Registration[]::new);
+                int removed = current.length - next.length;
+                if (removed == 0) return 0;
+                if (HANDLERS.compareAndSet(this, current, next.length == 0 ? EMPTY : next)) return removed;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E extends AuroraEvent> Handlers<E> handlers(Class<E> type) {
+        return (Handlers<E>) lists.computeIfAbsent(type, t -> new Handlers<>());
+    }
+
+    public <E extends AuroraEvent> boolean post(E event) {
+        Handlers<?> list = lists.get(event.getClass());
+        if (list == null) return false;
+        @SuppressWarnings("unchecked")
+        Handlers<E> typed = (Handlers<E>) list;
+        return typed.post(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E extends AuroraEvent> Registration register(Class<E> type, EventListener<? super E> listener,
+                                                         EventPriority priority, String owner) {
+        Registration registration = new Registration(type, (EventListener<AuroraEvent>) listener, priority, owner);
+        handlers(type).add(registration);
+        return registration;
+    }
+
+    /// Binds a handler method — `void on(E event)`, static or on `target` —
+    /// through [LambdaMetafactory], so it is called like a lambda rather than
+    /// through `Method.invoke`. A handler from another class loader sits in a
+    /// different unnamed module, where the private lookup lacks the full
+    /// privilege the metafactory demands; it is bound as a plain handle instead.
+    public <E extends AuroraEvent> Registration register(Class<E> type, Object target, Method method,
+                                                         EventPriority priority, String owner) {
+        if (method.getParameterCount() != 1 || !method.getParameterTypes()[0].isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Handler " + method + " cannot accept " + type.getSimpleName());
+        }
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle impl = lookup.unreflect(method);
+            if (!lookup.hasFullPrivilegeAccess()) {
+                return register(type, isStatic ? impl : impl.bindTo(target), priority, owner);
+            }
+            MethodType factoryType = isStatic
+                    ? MethodType.methodType(EventListener.class)
+                    : MethodType.methodType(EventListener.class, method.getDeclaringClass());
+            CallSite site = LambdaMetafactory.metafactory(lookup, "handle", factoryType,
+                    MethodType.methodType(void.class, AuroraEvent.class),
+                    impl,
+                    MethodType.methodType(void.class, type));
+            EventListener<E> listener = isStatic
+                    ? (EventListener<E>) site.getTarget().invoke()
+                    : (EventListener<E>) site.getTarget().invoke(target);
+            return register(type, listener, priority, owner);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to bind handler " + method, t);
+        }
+    }
+
+    /// Binds an arbitrary handle of shape `(E)V` — e.g. a compiled script handler.
+    public <E extends AuroraEvent> Registration register(Class<E> type, MethodHandle handler,
+                                                         EventPriority priority, String owner) {
+        MethodHandle exact = handler.asType(MethodType.methodType(void.class, AuroraEvent.class));
+        return register(type, (EventListener<E>) event -> {
+            // a statement, so the call site is typed (AuroraEvent)void rather than ...Object
+            exact.invokeExact((AuroraEvent) event);
+        }, priority, owner);
+    }
+
+    /// Drops every handler a mod registered — used when its script is reloaded or unloaded.
+    public int unregisterAll(String owner) {
+        int removed = 0;
+        for (Handlers<?> list : lists.values()) {
+            removed += list.removeIf(r -> r.owner.equals(owner));
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,72 @@
+/// src/main/java/dev/badkraft/aurora/event/EventPool.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.event;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/// Per-thread stack of reusable event instances.
+///
+/// A stack rather than a single instance because handlers fire events of
+/// their own (placing a block from `on_block_placed`), and the nested
+/// dispatch must not clobber the outer event.
+///
+///   BlockPlacedEvent e = BlockPlacedEvent.POOL.acquire().set(block, x, y, z, player);
+///   try { bus.post(e); } finally { BlockPlacedEvent.POOL.release(e); }
+public final class EventPool<E extends AuroraEvent> {
+    private final Supplier<E> factory;
+    private final ThreadLocal<Stack> stacks = ThreadLocal.withInitial(Stack::new);
+
+    private final class Stack {
+        AuroraEvent[] events = new AuroraEvent[4];
+        int depth;
+    }
+
+    public EventPool(Supplier<E> factory) {
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E acquire() {
+        Stack stack = stacks.get();
+        if (stack.depth == stack.events.length) {
+            stack.events = Arrays.copyOf(stack.events, stack.depth * 2);
+        }
+        AuroraEvent event = stack.events[stack.depth];
+        if (event == null) {
+            event = factory.get();
+            stack.events[stack.depth] = event;
+        }
+        stack.depth++;
+        return (E) event;
+    }
+
+    public void release(E event) {
+        Stack stack = stacks.get();
+        if (stack.depth == 0 || stack.events[stack.depth - 1] != event) {
+            throw new IllegalStateException("Event released out of order: " + event.getClass().getSimpleName());
+        }
+        stack.depth--;
+        event.reset();
+    }
+}
@@ -0,0 +1,57 @@
+/// src/main/java/dev/badkraft/aurora/event/PlayerInteractEvent.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.event;
+
+/// `on_player_interact` — a player used an item on a block.
+public final class PlayerInteractEvent extends AuroraEvent {
+    public static final EventPool<PlayerInteractEvent> POOL = new EventPool<>(PlayerInteractEvent::new);
+
+    private Object player;
+    private Object item;
+    private Object block;
+    private int x, y, z;
+
+    public PlayerInteractEvent set(Object player, Object item, Object block, int x, int y, int z) {
+        this.player = player;
+        this.item = item;
+        this.block = block;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    public Object player() { return player; }
+    public Object item()   { return item; }
+    public Object block()  { return block; }
+    public int x()         { return x; }
+    public int y()         { return y; }
+    public int z()         { return z; }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        player = item = block = null;
+        x = y = z = 0;
+    }
+}
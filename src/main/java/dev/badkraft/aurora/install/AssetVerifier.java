@@ -0,0 +1,201 @@
+/// src/main/java/dev/badkraft/aurora/install/AssetVerifier.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+
+/// Checks the objects an asset index references against their hashes.
+///
+/// Objects are content addressed — `objects/ab/abcdef…` must hash to
+/// `abcdef…` — so a verified object stays verified until its file changes.
+/// Every object that passes is appended to a journal as (path, size, mtime);
+/// the next launch stats each object and only re-hashes those that are new or
+/// whose size or mtime moved. A shared store of thousands of objects costs a
+/// full hash once, then a `stat` apiece.
+///
+/// The journal is append-only while verifying and compacted on [#close()] once
+/// superseded lines outnumber live ones — and number over [#COMPACT_MIN], so a
+/// small journal isn't rewritten on every launch.
+public final class AssetVerifier implements AutoCloseable {
+
+    public record Report(int objects, int hashed, List<String> missing, List<String> corrupt) {
+        public boolean ok() {
+            return missing.isEmpty() && corrupt.isEmpty();
+        }
+    }
+
+    private record Stamp(long size, long modified) {}
+
+    static final int COMPACT_MIN = 1024;
+
+    private final Path assetsDir;
+    private final Path journalFile;
+    private final Map<String, Stamp> journal = new ConcurrentHashMap<>();
+    private int journalLines;
+    private BufferedWriter appender;
+
+    /// @param assetsDir   the assets root holding `indexes/` and `objects/`
+    /// @param journalFile where verified objects are remembered between launches
+    public AssetVerifier(Path assetsDir, Path journalFile) {
+        this.assetsDir = assetsDir;
+        this.journalFile = journalFile;
+        if (Files.exists(journalFile)) {
+            try (var lines = Files.lines(journalFile)) {
+                lines.forEach(line -> {
+                    // size \t mtime \t path
+                    String[] parts = line.split("\t", 3);
+                    if (parts.length == 3) {
+                        journal.put(parts[2], new Stamp(Long.parseLong(parts[0]), Long.parseLong(parts[1])));
+                        journalLines++;
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                error("Discarding asset journal %s: %s", journalFile, e);
+                journal.clear();
+                journalLines = 0;
+            }
+        }
+    }
+
+    /// Verifies every object in `indexes/<indexId>.json`, hashing in parallel.
+    public Report verify(String indexId) throws IOException {
+        Path index = assetsDir.resolve("indexes").resolve(indexId + ".json");
+        JsonObject objects;
+        try (Reader reader = Files.newBufferedReader(index)) {
+            objects = JsonParser.parseReader(reader).getAsJsonObject().getAsJsonObject("objects");
+        }
+
+        Path objectsDir = assetsDir.resolve("objects");
+        List<String> names = new ArrayList<>(objects.size());
+        List<Future<Boolean>> pending = new ArrayList<>(objects.size());
+        List<String> missing = new ArrayList<>();
+        List<String> corrupt = new ArrayList<>();
+        int hashed = 0;
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Aurora-AssetVerify");
+            t.setDaemon(true);
+            return t;
+        })) {
+            for (Map.Entry<String, JsonElement> e : objects.entrySet()) {
+                JsonObject object = e.getValue().getAsJsonObject();
+                String hash = object.get("hash").getAsString();
+                long size = object.get("size").getAsLong();
+                Path file = objectsDir.resolve(hash.substring(0, 2)).resolve(hash);
+                String key = file.toAbsolutePath().normalize().toString();
+
+                BasicFileAttributes attrs;
+                try {
+                    attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (NoSuchFileException x) {
+                    missing.add(e.getKey());
+                    continue;
+                }
+                Stamp stamp = new Stamp(attrs.size(), attrs.lastModifiedTime().toMillis());
+                if (stamp.size() != size) {
+                    corrupt.add(e.getKey());
+                    continue;
+                }
+                if (stamp.equals(journal.get(key))) continue;
+
+                hashed++;
+                names.add(e.getKey());
+                pending.add(pool.submit(() -> {
+                    if (!hash.equalsIgnoreCase(HashCache.hash(file))) return false;
+                    record(key, stamp);
+                    return true;
+                }));
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                if (!pending.get(i).get()) corrupt.add(names.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Asset verification interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+        flush();
+        return new Report(objects.size(), hashed, missing, corrupt);
+    }
+
+    /// Flushes the journal, compacting it if it has grown mostly stale.
+    @Override
+    public synchronized void close() throws IOException {
+        if (appender != null) {
+            appender.close();
+            appender = null;
+        }
+        int superseded = journalLines - journal.size();
+        if (superseded > journal.size() && superseded > COMPACT_MIN) compact();
+    }
+
+    private synchronized void record(String key, Stamp stamp) throws IOException {
+        journal.put(key, stamp);
+        if (appender == null) {
+            Files.createDirectories(journalFile.getParent());
+            appender = Files.newBufferedWriter(journalFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        appender.write(stamp.size() + "\t" + stamp.modified() + "\t" + key);
+        appender.newLine();
+        journalLines++;
+    }
+
+    private synchronized void flush() throws IOException {
+        if (appender != null) appender.flush();
+    }
+
+    private void compact() throws IOException {
+        Path temp = Files.createTempFile(journalFile.getParent(), "." + journalFile.getFileName(), ".tmp");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(temp)) {
+                for (Map.Entry<String, Stamp> e : journal.entrySet()) {
+                    out.write(e.getValue().size() + "\t" + e.getValue().modified() + "\t" + e.getKey());
+                    out.newLine();
+                }
+            }
+            Files.move(temp, journalFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            journalLines = journal.size();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
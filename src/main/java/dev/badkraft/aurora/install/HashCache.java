@@ -0,0 +1,175 @@
+/// src/main/java/dev/badkraft/aurora/install/HashCache.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+
+/// SHA-1s of files on disk, remembered by (path, size, mtime).
+///
+/// A launch hashes a few hundred megabytes of libraries and assets that almost
+/// never change; with the cache, a warm check is one `stat` per file. A file
+/// whose size or modification time moved is re-hashed, so replacing a jar —
+/// by hand or by the repair downloader — is always noticed.
+///
+/// Hashing maps the file into memory in [#CHUNK]-sized windows rather than
+/// streaming it through a heap buffer. Safe to share between threads.
+public final class HashCache {
+    /// Mapping window; keeps very large files from needing one huge mapping.
+    static final long CHUNK = 64L << 20;
+
+    private record Entry(long size, long modified, String sha1) {}
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean dirty;
+
+    private HashCache(Path file) {
+        this.file = file;
+    }
+
+    /// Loads the cache persisted at `file`, or starts an empty one.
+    /// An unreadable cache is discarded — it only costs a rehash.
+    public static HashCache load(Path file) {
+        HashCache cache = new HashCache(file);
+        if (Files.exists(file)) {
+            try (var lines = Files.lines(file)) {
+                lines.forEach(line -> {
+                    // sha1 \t size \t mtime \t path — path last, it may contain tabs
+                    String[] parts = line.split("\t", 4);
+                    if (parts.length == 4) {
+                        cache.entries.put(parts[3],
+                                new Entry(Long.parseLong(parts[1]), Long.parseLong(parts[2]), parts[0]));
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                error("Discarding hash cache %s: %s", file, e);
+                cache.entries.clear();
+            }
+        }
+        return cache;
+    }
+
+    /// The SHA-1 of `path` as lowercase hex, from the cache when the file is unchanged.
+    public String sha1(Path path) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        String key = key(path);
+        Entry entry = entries.get(key);
+        long modified = attrs.lastModifiedTime().toMillis();
+        if (entry != null && entry.size() == attrs.size() && entry.modified() == modified) {
+            hits.increment();
+            return entry.sha1();
+        }
+        misses.increment();
+        String sha1 = hash(path, attrs.size());
+        entries.put(key, new Entry(attrs.size(), modified, sha1));
+        dirty = true;
+        return sha1;
+    }
+
+    /// Records a hash computed elsewhere (e.g. while downloading) for the file as it is now.
+    public void remember(Path path, String sha1) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        entries.put(key(path), new Entry(attrs.size(), attrs.lastModifiedTime().toMillis(), sha1));
+        dirty = true;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /// Writes the cache back if anything changed: temp file, then atomic rename.
+    public void save() throws IOException {
+        if (!dirty) return;
+        dirty = false;
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "." + file.getFileName(), ".tmp");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(temp)) {
+                for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                    Entry v = e.getValue();
+                    out.write(v.sha1() + '\t' + v.size() + '\t' + v.modified() + '\t' + e.getKey());
+                    out.newLine();
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /// SHA-1 of the whole file, read through memory mappings.
+    public static String hash(Path path) throws IOException {
+        return hash(path, Files.size(path));
+    }
+
+    /// SHA-1 of bytes still in memory, e.g. a file about to be written.
+    public static String hash(byte[] data) {
+        return HexFormat.of().formatHex(sha1Digest().digest(data));
+    }
+
+    private static String hash(Path path, long size) throws IOException {
+        MessageDigest digest = sha1Digest();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (long position = 0; position < size; position += CHUNK) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK, size - position));
+                digest.update(window);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static MessageDigest sha1Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 unavailable", e);
+        }
+    }
+
+    private static String key(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+}
@@ -0,0 +1,107 @@
+/// src/main/java/dev/badkraft/aurora/install/LaunchImage.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+/// A resolved launch — the verified classpath and the extracted natives
+/// directory — for one version JSON.
+///
+/// A multi-instance launch verifies libraries and extracts natives once,
+/// writes the result here, and every instance maps it read-only instead of
+/// re-reading the version JSON and re-checking hundreds of jars. The image
+/// records the size and mtime of the version JSON it was resolved from;
+/// [#read] returns null once that no longer matches.
+public record LaunchImage(List<String> classpath, String nativesPath) {
+    private static final int MAGIC = 0x414C494D;   // "ALIM"
+    private static final int VERSION = 1;
+
+    public LaunchImage {
+        classpath = List.copyOf(classpath);
+        nativesPath = nativesPath != null ? nativesPath : "";
+    }
+
+    /// Writes atomically, so an instance starting now never maps half an image.
+    public void write(Path file, Path versionJson) throws IOException {
+        BasicFileAttributes source = Files.readAttributes(versionJson, BasicFileAttributes.class);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(source.size());
+        out.writeLong(source.lastModifiedTime().toMillis());
+        out.writeInt(classpath.size());
+        for (String entry : classpath) string(out, entry);
+        string(out, nativesPath);
+
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "." + file.getFileName(), ".tmp");
+        try {
+            Files.write(temp, bytes.toByteArray());
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /// The image at `file`, or null if there is none or it was resolved from a different `versionJson`.
+    public static LaunchImage read(Path file, Path versionJson) throws IOException {
+        if (!Files.isRegularFile(file)) return null;
+        BasicFileAttributes source = Files.readAttributes(versionJson, BasicFileAttributes.class);
+        MappedByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (in.remaining() < 28 || in.getInt() != MAGIC || in.getInt() != VERSION) return null;
+        if (in.getLong() != source.size() || in.getLong() != source.lastModifiedTime().toMillis()) return null;
+        int count = in.getInt();
+        List<String> classpath = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) classpath.add(string(in));
+        return new LaunchImage(classpath, string(in));
+    }
+
+    private static void string(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String string(MappedByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
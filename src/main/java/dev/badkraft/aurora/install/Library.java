@@ -0,0 +1,96 @@
+/// src/main/java/dev/badkraft/aurora/install/Library.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/// One downloadable library from a version JSON's `libraries` array.
+///
+/// @param name    Maven coordinates, `group:artifact:version[:classifier]`
+/// @param path    location under `.minecraft/libraries`
+/// @param sha1    expected hash, lowercase hex; null if the JSON doesn't say
+/// @param size    expected size in bytes; -1 if the JSON doesn't say
+/// @param url     where Mojang serves it; null for libraries with no download
+/// @param natives whether the jar carries native libraries to extract
+public record Library(String name, String path, String sha1, long size, URI url, boolean natives) {
+
+    /// Every library that applies to `platform`, in classpath order.
+    ///
+    /// Handles both native layouts: since 1.19 each natives jar is its own
+    /// entry (`org.lwjgl:lwjgl:3.3.3:natives-linux`) gated by `rules`; older
+    /// versions hang a `natives` map off the main entry pointing into
+    /// `downloads.classifiers`.
+    public static List<Library> fromVersionJson(JsonObject versionJson, Platform platform) {
+        JsonArray libs = versionJson.getAsJsonArray("libraries");
+        List<Library> libraries = new ArrayList<>(libs.size());
+        for (JsonElement e : libs) {
+            JsonObject lib = e.getAsJsonObject();
+            if (!lib.has("downloads") || !lib.has("name")) continue;
+            if (!platform.allows(lib.getAsJsonArray("rules"))) continue;
+            String name = lib.get("name").getAsString();
+            JsonObject downloads = lib.getAsJsonObject("downloads");
+
+            JsonObject artifact = downloads.getAsJsonObject("artifact");
+            if (artifact != null) {
+                String classifier = classifier(name);
+                boolean natives = classifier != null && classifier.startsWith("natives-");
+                if (!natives || platform.acceptsClassifier(classifier)) {
+                    libraries.add(of(name, artifact, natives));
+                }
+            }
+
+            if (lib.has("natives") && downloads.has("classifiers")) {
+                JsonObject legacy = lib.getAsJsonObject("natives");
+                if (legacy.has(platform.os())) {
+                    String classifier = legacy.get(platform.os()).getAsString()
+                            .replace("${arch}", platform.arch().equals("x86") ? "32" : "64");
+                    JsonObject nativeArtifact = downloads.getAsJsonObject("classifiers").getAsJsonObject(classifier);
+                    if (nativeArtifact != null) libraries.add(of(name + ":" + classifier, nativeArtifact, true));
+                }
+            }
+        }
+        return libraries;
+    }
+
+    private static Library of(String name, JsonObject artifact, boolean natives) {
+        return new Library(
+                name,
+                artifact.get("path").getAsString(),
+                artifact.has("sha1") ? artifact.get("sha1").getAsString() : null,
+                artifact.has("size") ? artifact.get("size").getAsLong() : -1,
+                artifact.has("url") && !artifact.get("url").getAsString().isEmpty()
+                        ? URI.create(artifact.get("url").getAsString()) : null,
+                natives);
+    }
+
+    private static String classifier(String name) {
+        String[] parts = name.split(":");
+        return parts.length >= 4 ? parts[3] : null;
+    }
+}
@@ -0,0 +1,205 @@
+/// src/main/java/dev/badkraft/aurora/install/LibraryDownloader.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import dev.badkraft.aurora.install.LibraryVerifier.Result;
+import dev.badkraft.aurora.install.LibraryVerifier.Status;
+import dev.badkraft.aurora.utils.Http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Re-fetches missing or damaged libraries, in parallel and resumably.
+///
+/// Each download goes to `<jar>.part` next to its target. An interrupted
+/// download leaves the part behind and the next attempt — this launch or the
+/// next — asks for the rest with a `Range` request; a server that ignores the
+/// range just sends the whole file again. Only a part with the declared size
+/// and SHA-1 is renamed into place, so a bad transfer can never replace a jar.
+///
+/// Sources, in order of preference:
+///  - `aurora.libraries.mirror` pointing at a directory laid out like
+///    `.minecraft/libraries` — files are copied, nothing touches the network
+///  - `aurora.libraries.mirror` pointing at an `http(s)://` base — e.g. a
+///    local stub or an internal Maven mirror; the library path is appended
+///  - the `url` from the version JSON
+///
+/// At most `aurora.download.parallelism` (default 8) transfers run at once.
+public final class LibraryDownloader {
+    private static final int PARALLELISM = Integer.getInteger("aurora.download.parallelism", 8);
+    private static final int ATTEMPTS = 3;
+
+    private final Path librariesDir;
+    private final HashCache hashes;
+    private final Path mirrorDir;
+    private final URI mirrorUrl;
+
+    /// @param mirror a directory or `http(s)://` base URL, or null for Mojang's URLs
+    public LibraryDownloader(Path librariesDir, HashCache hashes, String mirror) {
+        this.librariesDir = librariesDir;
+        this.hashes = hashes;
+        if (mirror == null || mirror.isBlank()) {
+            this.mirrorDir = null;
+            this.mirrorUrl = null;
+        } else if (mirror.startsWith("http://") || mirror.startsWith("https://")) {
+            this.mirrorDir = null;
+            this.mirrorUrl = URI.create(mirror.endsWith("/") ? mirror : mirror + "/");
+        } else {
+            this.mirrorDir = Paths.get(mirror);
+            this.mirrorUrl = null;
+        }
+    }
+
+    public static LibraryDownloader fromSystemProperties(Path librariesDir, HashCache hashes) {
+        return new LibraryDownloader(librariesDir, hashes, System.getProperty("aurora.libraries.mirror"));
+    }
+
+    /// Repairs every result that isn't [Status#OK]; returns the results after
+    /// repair, in the same order. Entries that still fail keep their status.
+    public List<Result> repair(List<Result> results) throws IOException {
+        List<Result> repaired = new ArrayList<>(results);
+        Semaphore permits = new Semaphore(PARALLELISM);
+        List<Integer> indices = new ArrayList<>();
+        List<Future<Result>> pending = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < results.size(); i++) {
+                Result result = results.get(i);
+                if (result.ok()) continue;
+                indices.add(i);
+                pending.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return fetch(result);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            if (pending.isEmpty()) return repaired;
+            info("Repairing %d libraries (%d at a time) from %s", pending.size(), PARALLELISM, source());
+            for (int i = 0; i < pending.size(); i++) {
+                repaired.set(indices.get(i), pending.get(i).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Library repair interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+        return repaired;
+    }
+
+    private Result fetch(Result broken) throws IOException {
+        Library library = broken.library();
+        Path target = broken.file();
+        Path part = target.resolveSibling(target.getFileName() + ".part");
+        Files.createDirectories(target.getParent());
+        IOException last = null;
+        for (int attempt = 1; attempt <= ATTEMPTS; attempt++) {
+            try {
+                transfer(library, part);
+                long size = Files.size(part);
+                if (library.size() >= 0 && size != library.size()) {
+                    Files.deleteIfExists(part);   // the server disagrees with the JSON; start over
+                    throw new IOException("size %d, expected %d".formatted(size, library.size()));
+                }
+                String sha1 = HashCache.hash(part);
+                if (library.sha1() != null && !library.sha1().equalsIgnoreCase(sha1)) {
+                    Files.deleteIfExists(part);   // complete but wrong; resuming it can't help
+                    throw new IOException("sha1 " + sha1 + ", expected " + library.sha1());
+                }
+                try {
+                    Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                hashes.remember(target, sha1);
+                return new Result(library, target, Status.OK);
+            } catch (IOException e) {
+                last = e;
+                error("Download %s failed (attempt %d/%d): %s", library.name(), attempt, ATTEMPTS, e.getMessage());
+            }
+        }
+        error("Giving up on %s: %s", library.name(), last.getMessage());
+        return broken;
+    }
+
+    private void transfer(Library library, Path part) throws IOException {
+        if (mirrorDir != null) {
+            Path source = mirrorDir.resolve(library.path());
+            if (!Files.exists(source)) throw new NoSuchFileException(source.toString());
+            Files.copy(source, part, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+        URI source = mirrorUrl != null ? mirrorUrl.resolve(library.path()) : library.url();
+        if (source == null) throw new IOException("No download URL for " + library.name());
+
+        long have = Files.exists(part) ? Files.size(part) : 0;
+        if (library.size() >= 0 && have > library.size()) {
+            Files.delete(part);
+            have = 0;
+        }
+        if (library.size() >= 0 && have == library.size()) return;   // finished last time, just unverified
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(source).GET();
+        if (have > 0) request.header("Range", "bytes=" + have + "-");
+        HttpResponse<InputStream> response;
+        try {
+            response = Http.CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted downloading " + source, e);
+        }
+        try (InputStream in = response.body()) {
+            OpenOption[] mode = switch (response.statusCode()) {
+                case 206 -> new OpenOption[] { StandardOpenOption.CREATE, StandardOpenOption.APPEND };
+                case 200 -> new OpenOption[] { StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE };
+                case 416 -> null;   // nothing left to send; let verification judge the part
+                default -> throw new IOException("HTTP " + response.statusCode() + " for " + source);
+            };
+            if (mode == null) return;
+            try (OutputStream out = Files.newOutputStream(part, mode)) {
+                in.transferTo(out);
+            }
+        }
+    }
+
+    private String source() {
+        return mirrorDir != null ? mirrorDir.toString() : mirrorUrl != null ? mirrorUrl.toString() : "version JSON URLs";
+    }
+}
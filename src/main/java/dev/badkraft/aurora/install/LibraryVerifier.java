@@ -0,0 +1,108 @@
+/// src/main/java/dev/badkraft/aurora/install/LibraryVerifier.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/// Checks every library against the size and SHA-1 its version JSON declares.
+///
+/// Files are hashed in parallel on a pool sized to the machine (hashing is CPU
+/// bound; more threads than cores only thrash the page cache) and through a
+/// [HashCache], so a warm check costs one `stat` per jar. Sizes are compared
+/// first — a truncated download never needs hashing to be caught.
+public final class LibraryVerifier {
+
+    public enum Status {
+        OK,
+        MISSING,
+        /// size differs from the JSON — typically a truncated download
+        WRONG_SIZE,
+        /// right size, wrong hash
+        CORRUPT
+    }
+
+    public record Result(Library library, Path file, Status status) {
+        public boolean ok() {
+            return status == Status.OK;
+        }
+    }
+
+    private final Path librariesDir;
+    private final HashCache hashes;
+
+    public LibraryVerifier(Path librariesDir, HashCache hashes) {
+        this.librariesDir = librariesDir;
+        this.hashes = hashes;
+    }
+
+    /// Results in the same order as `libraries`.
+    public List<Result> verify(List<Library> libraries) throws IOException {
+        int threads = Math.max(1, Math.min(libraries.size(), Runtime.getRuntime().availableProcessors()));
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Aurora-Verify");
+            t.setDaemon(true);
+            return t;
+        })) {
+            List<Future<Result>> pending = new ArrayList<>(libraries.size());
+            for (Library library : libraries) {
+                pending.add(pool.submit(() -> verify(library)));
+            }
+            List<Result> results = new ArrayList<>(libraries.size());
+            for (Future<Result> future : pending) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Library verification interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    public Result verify(Library library) throws IOException {
+        Path file = librariesDir.resolve(library.path());
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (NoSuchFileException e) {
+            return new Result(library, file, Status.MISSING);
+        }
+        if (library.size() >= 0 && size != library.size()) {
+            return new Result(library, file, Status.WRONG_SIZE);
+        }
+        if (library.sha1() != null && !library.sha1().equalsIgnoreCase(hashes.sha1(file))) {
+            return new Result(library, file, Status.CORRUPT);
+        }
+        return new Result(library, file, Status.OK);
+    }
+}
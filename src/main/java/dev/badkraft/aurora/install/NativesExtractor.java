@@ -0,0 +1,152 @@
+/// src/main/java/dev/badkraft/aurora/install/NativesExtractor.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.debug;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Unpacks natives jars into a content-addressed cache.
+///
+/// Each jar lands in `<cache>/<sha1 of the jar>/`, flattened to the bare
+/// library files (`.so`, `.dll`, `.dylib`, `.jnilib`). A directory that exists
+/// is complete — it was built under a temporary name and renamed into place —
+/// so a warm launch does no I/O beyond one `stat` per jar, and instances and
+/// game versions sharing an LWJGL build share its extracted natives. Two
+/// launchers extracting the same jar at once is harmless: the second rename
+/// loses and its copy is thrown away.
+public final class NativesExtractor {
+    private static final List<String> EXTENSIONS = List.of(".so", ".dll", ".dylib", ".jnilib");
+
+    private final Path cacheRoot;
+    private final HashCache hashes;
+
+    public NativesExtractor(Path cacheRoot, HashCache hashes) {
+        this.cacheRoot = cacheRoot;
+        this.hashes = hashes;
+    }
+
+    /// Extracts every natives jar among `results` that verified OK; returns
+    /// their directories in the same order.
+    public List<Path> extract(List<LibraryVerifier.Result> results) throws IOException {
+        List<LibraryVerifier.Result> natives = results.stream()
+                .filter(r -> r.ok() && r.library().natives())
+                .toList();
+        if (natives.isEmpty()) return List.of();
+        Files.createDirectories(cacheRoot);
+
+        int threads = Math.max(1, Math.min(natives.size(), Runtime.getRuntime().availableProcessors()));
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Aurora-Natives");
+            t.setDaemon(true);
+            return t;
+        })) {
+            List<Future<Path>> pending = new ArrayList<>(natives.size());
+            for (LibraryVerifier.Result result : natives) {
+                pending.add(pool.submit(() -> extract(result)));
+            }
+            List<Path> dirs = new ArrayList<>(pending.size());
+            for (Future<Path> future : pending) {
+                dirs.add(future.get());
+            }
+            return dirs;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Natives extraction interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    /// `dirs` joined for `java.library.path` / `org.lwjgl.librarypath`.
+    public static String libraryPath(List<Path> dirs) {
+        return String.join(File.pathSeparator, dirs.stream().map(Path::toString).toList());
+    }
+
+    private Path extract(LibraryVerifier.Result result) throws IOException {
+        String sha1 = result.library().sha1() != null ? result.library().sha1() : hashes.sha1(result.file());
+        Path dir = cacheRoot.resolve(sha1.toLowerCase(Locale.ROOT));
+        if (Files.isDirectory(dir)) return dir;
+
+        Path staging = cacheRoot.resolve("." + sha1 + "-" + UUID.randomUUID());
+        Files.createDirectories(staging);
+        int count = 0;
+        try {
+            try (ZipFile jar = new ZipFile(result.file().toFile())) {
+                for (Enumeration<? extends ZipEntry> entries = jar.entries(); entries.hasMoreElements(); ) {
+                    ZipEntry entry = entries.nextElement();
+                    if (entry.isDirectory() || !isNative(entry.getName())) continue;
+                    String fileName = entry.getName().substring(entry.getName().lastIndexOf('/') + 1);
+                    try (InputStream in = jar.getInputStream(entry)) {
+                        Files.copy(in, staging.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    count++;
+                }
+            }
+            try {
+                Files.move(staging, dir, StandardCopyOption.ATOMIC_MOVE);
+                info("Extracted %d natives from %s", count, result.library().name());
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                debug("Natives for %s extracted concurrently; using the other copy", result.library().name());
+            }
+        } finally {
+            deleteTree(staging);
+        }
+        return dir;
+    }
+
+    private static boolean isNative(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (lower.startsWith("meta-inf/")) return false;
+        for (String extension : EXTENSIONS) {
+            if (lower.endsWith(extension)) return true;
+        }
+        return false;
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root)) return;
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path p : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+}
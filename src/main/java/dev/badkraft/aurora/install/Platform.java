@@ -0,0 +1,86 @@
+/// src/main/java/dev/badkraft/aurora/install/Platform.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/// The OS and architecture as the version JSON spells them, and the `rules`
+/// logic that decides which libraries apply.
+///
+/// @param os      `windows`, `osx` or `linux`
+/// @param arch    `x86_64`, `x86` or `arm64`
+/// @param version `os.version`, matched against rule regexes
+public record Platform(String os, String arch, String version) {
+
+    public static Platform current() {
+        String name = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        String os = name.contains("win") ? "windows" : name.contains("mac") || name.contains("darwin") ? "osx" : "linux";
+        String rawArch = System.getProperty("os.arch", "").toLowerCase(Locale.ROOT);
+        String arch = switch (rawArch) {
+            case "aarch64", "arm64" -> "arm64";
+            case "x86", "i386", "i486", "i586", "i686" -> "x86";
+            default -> "x86_64";
+        };
+        return new Platform(os, arch, System.getProperty("os.version", ""));
+    }
+
+    /// Mojang rule semantics: no rules means allowed; otherwise start from
+    /// disallowed and let the last matching rule decide. Rules gated on
+    /// launcher `features` never match — we enable none of them.
+    public boolean allows(JsonArray rules) {
+        if (rules == null || rules.isEmpty()) return true;
+        boolean allowed = false;
+        for (JsonElement element : rules) {
+            JsonObject rule = element.getAsJsonObject();
+            if (rule.has("features")) continue;
+            if (rule.has("os") && !matches(rule.getAsJsonObject("os"))) continue;
+            allowed = "allow".equals(rule.get("action").getAsString());
+        }
+        return allowed;
+    }
+
+    /// The classifier suffix LWJGL uses for this OS: `natives-linux`, `natives-macos`, `natives-windows`.
+    public String nativesClassifier() {
+        return "natives-" + (os.equals("osx") ? "macos" : os);
+    }
+
+    /// True for `natives-linux` on x86_64 Linux and `natives-linux-arm64` on ARM
+    /// Linux, false for anything built for another OS or architecture.
+    public boolean acceptsClassifier(String classifier) {
+        String base = nativesClassifier();
+        if (classifier.equals(base)) return arch.equals("x86_64");
+        if (!classifier.startsWith(base + "-")) return false;
+        return classifier.substring(base.length() + 1).equals(arch);
+    }
+
+    private boolean matches(JsonObject os) {
+        if (os.has("name") && !os.get("name").getAsString().equals(this.os)) return false;
+        if (os.has("arch") && !os.get("arch").getAsString().equals(arch)) return false;
+        return !os.has("version") || Pattern.compile(os.get("version").getAsString()).matcher(version).find();
+    }
+}
@@ -0,0 +1,254 @@
+/// src/main/java/dev/badkraft/aurora/install/ServerBundle.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.badkraft.aurora.utils.Http;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.debug;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// The dedicated server for a version: its jar, and what that jar unpacks to.
+///
+/// A server host usually has no `.minecraft`, so the version JSON comes from
+/// the local install when there is one and otherwise from Mojang's version
+/// manifest, cached under `dir`. The jar comes from its `downloads.server` entry and is
+/// fetched (or repaired) like any library, into `dir`. Since 1.18 it is a
+/// bundler — a launcher wrapping the real server jar and its libraries under
+/// `META-INF/versions` and `META-INF/libraries`, listed with SHA-256s in
+/// `versions.list` / `libraries.list`, and naming the real entry point in
+/// `META-INF/main-class`. Rather than run the bundler's own `Main` (which
+/// builds a classloader Aurora can't see into), the entries are unpacked
+/// under `dir` once and handed back as a plain classpath.
+///
+/// An unpacked file of the listed size is trusted; anything else is
+/// re-extracted and checked against its SHA-256 on the way out.
+///
+/// The server jar is obfuscated separately from the client, so its ProGuard
+/// mappings (`downloads.server_mappings`) are fetched alongside it by [#mappings].
+public final class ServerBundle {
+    private static final String DEFAULT_MAIN = "net.minecraft.server.Main";
+    private static final String VERSION_MANIFEST = "https://piston-meta.mojang.com/mc/game/version_manifest_v2.json";
+
+    /// Classpath (server jar first) and the server's real entry point.
+    public record Launch(List<Path> classpath, String mainClass) {}
+
+    private ServerBundle() {}
+
+    /// Fetches the server jar if needed and unpacks it. `-Daurora.server.jar` uses a local jar instead.
+    ///
+    /// @param installed the local install's version JSON, or null if there is no install
+    public static Launch resolve(Path installed, String version, Path dir, HashCache hashes) throws IOException {
+        String local = System.getProperty("aurora.server.jar");
+        Path jar = local != null ? Paths.get(local) : download(versionJson(installed, version, dir), version, dir, hashes);
+        return unpack(jar, dir.resolve(version));
+    }
+
+    /// `installed` if it exists, else `dir/<version>.json`, fetched through the version manifest on first use.
+    public static JsonObject versionJson(Path installed, String version, Path dir) throws IOException {
+        if (installed != null && Files.exists(installed)) return read(installed);
+        Path cached = dir.resolve(version + ".json");
+        if (Files.exists(cached)) return read(cached);
+
+        String manifestUrl = System.getProperty("aurora.versionManifest", VERSION_MANIFEST);
+        info("No local %s version JSON; resolving it from %s", version, manifestUrl);
+        JsonObject manifest = JsonParser.parseString(fetch(URI.create(manifestUrl))).getAsJsonObject();
+        for (JsonElement e : manifest.getAsJsonArray("versions")) {
+            JsonObject entry = e.getAsJsonObject();
+            if (!version.equals(entry.get("id").getAsString())) continue;
+            String body = fetch(URI.create(entry.get("url").getAsString()));
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, "." + cached.getFileName(), ".tmp");
+            try {
+                Files.writeString(temp, body);
+                try {
+                    Files.move(temp, cached, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, cached, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return JsonParser.parseString(body).getAsJsonObject();
+        }
+        throw new IOException("Version " + version + " is not in the version manifest");
+    }
+
+    /// The server's ProGuard mappings, fetched into `dir` on first use; null if
+    /// the version publishes none. `-Daurora.server.mappings` uses a local file instead.
+    ///
+    /// @param installed the local install's version JSON, or null if there is no install
+    public static Path mappings(Path installed, String version, Path dir, HashCache hashes) throws IOException {
+        String local = System.getProperty("aurora.server.mappings");
+        if (local != null) return Paths.get(local);
+        JsonObject downloads = versionJson(installed, version, dir).getAsJsonObject("downloads");
+        JsonObject mappings = downloads == null ? null : downloads.getAsJsonObject("server_mappings");
+        if (mappings == null) return null;
+        return downloadEntry(mappings, "com.mojang:minecraft-server-mappings:" + version,
+                "server-" + version + "-mappings.txt", dir, hashes);
+    }
+
+    static Path download(JsonObject versionJson, String version, Path dir, HashCache hashes) throws IOException {
+        JsonObject downloads = versionJson.getAsJsonObject("downloads");
+        JsonObject server = downloads == null ? null : downloads.getAsJsonObject("server");
+        if (server == null) {
+            throw new IOException("Version " + version + " has no server download; set -Daurora.server.jar");
+        }
+        return downloadEntry(server, "com.mojang:minecraft-server:" + version, "server-" + version + ".jar", dir, hashes);
+    }
+
+    /// Verifies `dir/<file>` against a `downloads` entry, downloading it when missing or wrong.
+    private static Path downloadEntry(JsonObject download, String name, String file, Path dir, HashCache hashes) throws IOException {
+        Library library = new Library(name, file,
+                download.has("sha1") ? download.get("sha1").getAsString() : null,
+                download.has("size") ? download.get("size").getAsLong() : -1,
+                URI.create(download.get("url").getAsString()), false);
+        LibraryVerifier.Result result = new LibraryVerifier(dir, hashes).verify(library);
+        if (!result.ok()) {
+            info("%s (%s); downloading", result.file(), result.status());
+            result = new LibraryDownloader(dir, hashes, null).repair(List.of(result)).getFirst();
+            if (!result.ok()) throw new IOException("Could not download " + file);
+        }
+        return result.file();
+    }
+
+    /// The classpath and main class of `jar`, unpacking a bundler into `dir`.
+    public static Launch unpack(Path jar, Path dir) throws IOException {
+        try (JarFile bundle = new JarFile(jar.toFile())) {
+            ZipEntry mainEntry = bundle.getEntry("META-INF/main-class");
+            if (mainEntry == null) {
+                // pre-1.18: the jar is the server
+                Attributes manifest = bundle.getManifest() == null ? null : bundle.getManifest().getMainAttributes();
+                String main = manifest == null ? null : manifest.getValue(Attributes.Name.MAIN_CLASS);
+                return new Launch(List.of(jar), main != null ? main : DEFAULT_MAIN);
+            }
+            String mainClass;
+            try (InputStream in = bundle.getInputStream(mainEntry)) {
+                mainClass = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            List<Path> classpath = new ArrayList<>();
+            int extracted = extract(bundle, "versions", dir, classpath);
+            extracted += extract(bundle, "libraries", dir, classpath);
+            info("Server bundle %s: %d entries (%d unpacked), main %s", jar.getFileName(), classpath.size(), extracted, mainClass);
+            return new Launch(classpath, mainClass);
+        }
+    }
+
+    /// Unpacks every entry of `META-INF/<kind>.list` into `dir/<kind>`; returns how many had to be written.
+    private static int extract(JarFile bundle, String kind, Path dir, List<Path> classpath) throws IOException {
+        ZipEntry list = bundle.getEntry("META-INF/" + kind + ".list");
+        if (list == null) return 0;
+        Path root = dir.resolve(kind).normalize();
+        int written = 0;
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(bundle.getInputStream(list), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                // sha256 \t id \t path
+                String[] parts = line.split("\t");
+                if (parts.length != 3) continue;
+                String entryName = "META-INF/" + kind + "/" + parts[2];
+                ZipEntry entry = bundle.getEntry(entryName);
+                if (entry == null) throw new IOException("Bundle lists missing entry " + entryName);
+                Path target = root.resolve(parts[2]).normalize();
+                if (!target.startsWith(root)) throw new IOException("Bundle entry escapes " + root + ": " + parts[2]);
+                classpath.add(target);
+                if (Files.isRegularFile(target) && Files.size(target) == entry.getSize()) continue;
+                unpackEntry(bundle, entry, target, parts[0]);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static void unpackEntry(JarFile bundle, ZipEntry entry, Path target, String sha256) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(bundle.getInputStream(entry), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            }
+            String actual = HexFormat.of().formatHex(digest.digest());
+            if (!actual.equalsIgnoreCase(sha256)) {
+                throw new IOException("sha256 " + actual + ", expected " + sha256 + " for " + entry.getName());
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            debug("Unpacked %s", target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static JsonObject read(Path file) throws IOException {
+        try (var reader = Files.newBufferedReader(file)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+    }
+
+    private static String fetch(URI uri) throws IOException {
+        try {
+            HttpResponse<String> response = Http.CLIENT.send(HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) throw new IOException("HTTP " + response.statusCode() + " for " + uri);
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted fetching " + uri, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/// src/main/java/dev/badkraft/aurora/install/SyntheticInstall.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.install;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static dev.badkraft.aurora.Loader.MC_VERSION;
+
+/// Fabricates a stand-in `.minecraft` so the launch pipeline can run with no
+/// game, no network and no account.
+///
+///   versions/1.21.10/1.21.10.json   libraries, asset index, game arguments
+///   versions/1.21.10/1.21.10.jar    `net.minecraft.client.main.Main` + obfuscated game classes
+///   versions/1.21.10/client.txt     ProGuard mappings for those game classes
+///   libraries/synthetic/libN/...    `jars` jars of `classesPerJar` empty classes each
+///   assets/indexes, assets/objects  `assets` small objects
+///
+/// The fake `Main` does one thing: calls the static `(String[])V` method
+/// named by [Spec#entryHook], so a harness can see the moment the game would
+/// take over. Class files are written by hand — no compiler at generation time.
+public final class SyntheticInstall {
+    public static final String MAIN_CLASS = "net/minecraft/client/main/Main";
+    public static final String ASSET_INDEX = "synthetic";
+
+    /// @param entryHook `internal/Owner.method`, invoked by `Main.main` with the game
+    ///                  arguments; null for a `Main` that returns straight away
+    public record Spec(int jars, int classesPerJar, int gameClasses, int assets, String entryHook) {}
+
+    /// What was written. `classes` lists every generated class by binary name, game classes first.
+    public record Layout(Path dotMinecraft, Path versionJson, Path versionJar, Path proguard, List<String> classes) {}
+
+    private SyntheticInstall() {}
+
+    public static Layout generate(Path dotMinecraft, Spec spec) throws IOException {
+        Random random = new Random(42);
+        Path versionDir = dotMinecraft.resolve("versions").resolve(MC_VERSION);
+        Files.createDirectories(versionDir);
+        List<String> classes = new ArrayList<>(spec.gameClasses() + spec.jars() * spec.classesPerJar());
+
+        // the game jar: Main plus obfuscated classes in the default package, as shipped
+        Path versionJar = versionDir.resolve(MC_VERSION + ".jar");
+        StringBuilder proguard = new StringBuilder("# compiler: R8\n# synthetic: true\n");
+        proguard.append("net.minecraft.client.main.Main -> net.minecraft.client.main.Main:\n");
+        try (ZipOutputStream jar = new ZipOutputStream(Files.newOutputStream(versionJar))) {
+            put(jar, MAIN_CLASS, mainClass(spec.entryHook()));
+            for (int i = 0; i < spec.gameClasses(); i++) {
+                String obf = obf(i);
+                put(jar, obf, emptyClass(obf));
+                classes.add(obf);
+                String named = "net.minecraft.synthetic.p" + (i % 32) + ".Class" + i;
+                proguard.append(named).append(" -> ").append(obf).append(":\n");
+                for (int m = 0; m < 8; m++) {
+                    proguard.append(m % 4 == 0
+                            ? "    int field%d -> %s\n".formatted(m, obf(m))
+                            : "    %d:%d:void method%d(int,java.lang.String) -> %s\n".formatted(m * 7, m * 7 + 5, m, obf(m)));
+                }
+            }
+        }
+        Path mappings = versionDir.resolve("client.txt");
+        Files.writeString(mappings, proguard);
+
+        JsonArray libraries = new JsonArray();
+        for (int j = 0; j < spec.jars(); j++) {
+            String path = "synthetic/lib" + j + "/1.0/lib" + j + "-1.0.jar";
+            Path file = dotMinecraft.resolve("libraries").resolve(path);
+            Files.createDirectories(file.getParent());
+            try (ZipOutputStream jar = new ZipOutputStream(Files.newOutputStream(file))) {
+                for (int c = 0; c < spec.classesPerJar(); c++) {
+                    String name = "synthetic/lib" + j + "/Class" + c;
+                    put(jar, name, emptyClass(name));
+                    classes.add(name.replace('/', '.'));
+                }
+            }
+            JsonObject artifact = new JsonObject();
+            artifact.addProperty("path", path);
+            artifact.addProperty("sha1", HashCache.hash(file));
+            artifact.addProperty("size", Files.size(file));
+            artifact.addProperty("url", "");
+            JsonObject downloads = new JsonObject();
+            downloads.add("artifact", artifact);
+            JsonObject library = new JsonObject();
+            library.addProperty("name", "synthetic:lib" + j + ":1.0");
+            library.add("downloads", downloads);
+            libraries.add(library);
+        }
+
+        writeAssets(dotMinecraft.resolve("assets"), spec.assets(), random);
+
+        JsonObject version = new JsonObject();
+        version.addProperty("id", MC_VERSION);
+        version.addProperty("type", "release");
+        version.addProperty("mainClass", MAIN_CLASS.replace('/', '.'));
+        JsonObject assetIndex = new JsonObject();
+        assetIndex.addProperty("id", ASSET_INDEX);
+        version.add("assetIndex", assetIndex);
+        JsonArray game = new JsonArray();
+        for (String arg : List.of(
+                "--username", "${auth_player_name}", "--version", "${version_name}",
+                "--gameDir", "${game_directory}", "--assetsDir", "${assets_root}",
+                "--assetIndex", "${assets_index_name}", "--uuid", "${auth_uuid}",
+                "--accessToken", "${auth_access_token}", "--clientId", "${clientid}",
+                "--xuid", "${auth_xuid}", "--userType", "${user_type}", "--versionType", "${version_type}")) {
+            game.add(arg);
+        }
+        JsonObject arguments = new JsonObject();
+        arguments.add("game", game);
+        version.add("arguments", arguments);
+        version.add("libraries", libraries);
+        Path versionJson = versionDir.resolve(MC_VERSION + ".json");
+        Files.writeString(versionJson, new GsonBuilder().setPrettyPrinting().create().toJson(version));
+
+        return new Layout(dotMinecraft, versionJson, versionJar, mappings, List.copyOf(classes));
+    }
+
+    private static void writeAssets(Path assetsDir, int count, Random random) throws IOException {
+        JsonObject objects = new JsonObject();
+        for (int i = 0; i < count; i++) {
+            byte[] data = new byte[256 + random.nextInt(4096)];
+            random.nextBytes(data);
+            String hash = HashCache.hash(data);
+            Path file = assetsDir.resolve("objects").resolve(hash.substring(0, 2)).resolve(hash);
+            Files.createDirectories(file.getParent());
+            Files.write(file, data);
+            JsonObject object = new JsonObject();
+            object.addProperty("hash", hash);
+            object.addProperty("size", data.length);
+            objects.add("minecraft/sounds/synthetic/" + i + ".ogg", object);
+        }
+        JsonObject index = new JsonObject();
+        index.add("objects", objects);
+        Path file = assetsDir.resolve("indexes").resolve(ASSET_INDEX + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, index.toString());
+    }
+
+    private static void put(ZipOutputStream jar, String internalName, byte[] bytes) throws IOException {
+        jar.putNextEntry(new ZipEntry(internalName + ".class"));
+        jar.write(bytes);
+        jar.closeEntry();
+    }
+
+    /// `a`, `b`, ... `aa`, `ab` — the short names R8 hands out.
+    static String obf(int index) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.insert(0, (char) ('a' + index % 26));
+            index = index / 26 - 1;
+        } while (index >= 0);
+        return name.toString();
+    }
+
+    // ---- class files ----
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int JAVA_21 = 65;
+    private static final int ACC_PUBLIC = 0x0001, ACC_STATIC = 0x0008, ACC_SUPER = 0x0020;
+    private static final int UTF8 = 1, CLASS = 7, METHODREF = 10, NAME_AND_TYPE = 12;
+
+    /// `public class <name> extends Object {}` — no members, not even a constructor.
+    static byte[] emptyClass(String internalName) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        header(out, 5);
+        utf8(out, internalName);            // 1
+        ref(out, CLASS, 1);                 // 2
+        utf8(out, "java/lang/Object");      // 3
+        ref(out, CLASS, 3);                 // 4
+        out.writeShort(ACC_PUBLIC | ACC_SUPER);
+        out.writeShort(2);                  // this
+        out.writeShort(4);                  // super
+        out.writeShort(0);                  // interfaces
+        out.writeShort(0);                  // fields
+        out.writeShort(0);                  // methods
+        out.writeShort(0);                  // attributes
+        return bytes.toByteArray();
+    }
+
+    /// `Main.main(String[] args) { Owner.method(args); }`
+    static byte[] mainClass(String entryHook) throws IOException {
+        int dot = entryHook != null ? entryHook.lastIndexOf('.') : -1;
+        if (entryHook != null && dot < 0) {
+            throw new IllegalArgumentException("Entry hook must be internal/Owner.method: " + entryHook);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        header(out, entryHook != null ? 13 : 8);
+        utf8(out, MAIN_CLASS);                          // 1
+        ref(out, CLASS, 1);                             // 2
+        utf8(out, "java/lang/Object");                  // 3
+        ref(out, CLASS, 3);                             // 4
+        utf8(out, "main");                              // 5
+        utf8(out, "([Ljava/lang/String;)V");            // 6
+        utf8(out, "Code");                              // 7
+        byte[] code = {(byte) 0xb1};                    // return
+        if (entryHook != null) {
+            utf8(out, entryHook.substring(0, dot));     // 8
+            ref(out, CLASS, 8);                         // 9
+            utf8(out, entryHook.substring(dot + 1));    // 10
+            ref(out, NAME_AND_TYPE, 10, 6);             // 11
+            ref(out, METHODREF, 9, 11);                 // 12
+            code = new byte[] {
+                    0x2a,                               // aload_0
+                    (byte) 0xb8, 0, 12,                 // invokestatic #12
+                    (byte) 0xb1                         // return
+            };
+        }
+        out.writeShort(ACC_PUBLIC | ACC_SUPER);
+        out.writeShort(2);
+        out.writeShort(4);
+        out.writeShort(0);                              // interfaces
+        out.writeShort(0);                              // fields
+        out.writeShort(1);                              // methods
+        out.writeShort(ACC_PUBLIC | ACC_STATIC);
+        out.writeShort(5);
+        out.writeShort(6);
+        out.writeShort(1);                              // method attributes
+        out.writeShort(7);
+        out.writeInt(2 + 2 + 4 + code.length + 2 + 2);
+        out.writeShort(1);                              // max stack
+        out.writeShort(1);                              // max locals
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);                              // exception table
+        out.writeShort(0);                              // code attributes
+        out.writeShort(0);                              // class attributes
+        return bytes.toByteArray();
+    }
+
+    private static void header(DataOutputStream out, int constantPoolCount) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(0);
+        out.writeShort(JAVA_21);
+        out.writeShort(constantPoolCount);
+    }
+
+    private static void utf8(DataOutputStream out, String value) throws IOException {
+        out.writeByte(UTF8);
+        out.writeUTF(value);
+    }
+
+    private static void ref(DataOutputStream out, int tag, int... indexes) throws IOException {
+        out.writeByte(tag);
+        for (int index : indexes) out.writeShort(index);
+    }
+}
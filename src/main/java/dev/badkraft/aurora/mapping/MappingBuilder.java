@@ -21,6 +21,8 @@
 /// SOFTWARE.
 package dev.badkraft.aurora.mapping;
 
+import dev.badkraft.aurora.utils.Http;
+
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.Method;
@@ -28,7 +30,6 @@ import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.file.*;
@@ -40,7 +41,6 @@ import static dev.badkraft.aurora.Loader.log;
 import static dev.badkraft.aurora.Loader.MC_VERSION;
 
 public class MappingBuilder {
-    private static final HttpClient HTTP = HttpClient.newHttpClient();
     private static final String MOJANG_MAPPINGS_URL = "https://piston-data.mojang.com/v1/objects/0530a206839eb1e9b35ec86acbbe394b07a2d9fb/client.txt";
     private static final String PROGUARD_MAPPINGS = "mc-" + MC_VERSION + "-proguard.txt";
 
@@ -108,7 +108,20 @@ public class MappingBuilder {
             log("Failed to obtain ProGuard mappings");
             throw new IOException("Failed to obtain ProGuard mappings");
         }
+        generateMappings(proguardLines, auroraOut);
+    }
+
+    /// Same as [#generateMappings(Path, Path)], from ProGuard mappings already on disk — no download.
+    public static void generateMappings(Path vanillaJar, Path proguard, Path auroraOut) throws Exception {
+        log("Generating official Aurora mappings from %s → %s", proguard, auroraOut);
+        List<String> proguardLines = Files.readAllLines(proguard);
+        if (proguardLines.isEmpty()) {
+            throw new IOException("Empty ProGuard mappings: " + proguard);
+        }
+        generateMappings(proguardLines, auroraOut);
+    }
 
+    private static void generateMappings(List<String> proguardLines, Path auroraOut) throws Exception {
         Map<String, String> obfToNamed = parseProGuardClassMap(proguardLines);
 
         // Save raw ProGuard for audit (optional, but clean)
@@ -142,13 +155,13 @@ public class MappingBuilder {
     private static List<String> downloadMojangMappings() throws Exception {
         log("Downloading Mojang ProGuard mappings...");
         HttpRequest request = HttpRequest.newBuilder(URI.create(MOJANG_MAPPINGS_URL)).GET().build();
-        HttpResponse<String> resp = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> resp = Http.CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
         if (resp.statusCode() != 200) {
             throw new IOException("Failed to download mappings: HTTP " + resp.statusCode());
         }
         return resp.body().lines().toList();
     }
-    private static Map<String, String> parseProGuardClassMap(List<String> lines) {
+    static Map<String, String> parseProGuardClassMap(List<String> lines) {
         Map<String, String> obfToNamed = new HashMap<>();
 
         String currentObfClass = null;
@@ -0,0 +1,223 @@
+/// src/main/java/dev/badkraft/aurora/mapping/MappingIndex.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.mapping;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/// A memory-mapped index over a ProGuard mapping file.
+///
+/// Built once, next to the mappings (`mc-1.21.10-proguard.txt.idx`): every
+/// class as `named -> obf` in sorted order, plus where its member lines sit
+/// in the text. Lookups binary-search the mapping; member lines are decoded
+/// straight from the mapped text, only for the classes asked for. Nothing is
+/// copied onto the heap up front, so any number of game instances on a host
+/// share one copy of both files through the page cache.
+///
+///   header   magic, version, source size, source mtime, class count
+///   slots    per class, sorted by named: name offset, obf offset, section start, section length
+///   strings  u2 length + UTF-8, referenced by the slots
+///
+/// The index records the size and mtime of the text it was built from and is
+/// rebuilt when they no longer match.
+public final class MappingIndex {
+    private static final int MAGIC = 0x414D4958;   // "AMIX"
+    private static final int VERSION = 1;
+    private static final int HEADER = 4 + 4 + 8 + 8 + 4;
+    private static final int SLOT = 4 + 4 + 8 + 4;
+
+    private final MappedByteBuffer index;
+    private final MappedByteBuffer text;
+    private final int count;
+    private final int strings;
+
+    private MappingIndex(MappedByteBuffer index, MappedByteBuffer text) {
+        this.index = index;
+        this.text = text;
+        this.count = index.getInt(HEADER - 4);
+        this.strings = HEADER + count * SLOT;
+    }
+
+    public static Path indexFileFor(Path proguard) {
+        return proguard.resolveSibling(proguard.getFileName() + ".idx");
+    }
+
+    /// Maps the index for `proguard`, building it first if it is missing or stale.
+    public static MappingIndex open(Path proguard) throws IOException {
+        Path indexFile = indexFileFor(proguard);
+        BasicFileAttributes source = Files.readAttributes(proguard, BasicFileAttributes.class);
+        if (!current(indexFile, source)) build(proguard, indexFile);
+        try (FileChannel in = FileChannel.open(indexFile, StandardOpenOption.READ);
+             FileChannel src = FileChannel.open(proguard, StandardOpenOption.READ)) {
+            return new MappingIndex(
+                    in.map(FileChannel.MapMode.READ_ONLY, 0, in.size()),
+                    src.map(FileChannel.MapMode.READ_ONLY, 0, src.size()));
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /// Obfuscated name of `named`, or null if the mappings don't list it.
+    public String obf(String named) {
+        int slot = find(named);
+        return slot < 0 ? null : string(index.getInt(HEADER + slot * SLOT + 4));
+    }
+
+    /// The member lines mapped under `named`, or null if the mappings don't list it.
+    public String section(String named) {
+        int slot = find(named);
+        if (slot < 0) return null;
+        int at = HEADER + slot * SLOT;
+        long start = index.getLong(at + 8);
+        int length = index.getInt(at + 16);
+        byte[] bytes = new byte[length];
+        text.get((int) start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int find(String named) {
+        byte[] key = named.getBytes(StandardCharsets.UTF_8);
+        int low = 0, high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(index.getInt(HEADER + mid * SLOT), key);
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /// Unsigned byte comparison of the stored string at `offset` against `key`.
+    private int compare(int offset, byte[] key) {
+        int at = strings + offset;
+        int length = Short.toUnsignedInt(index.getShort(at));
+        at += 2;
+        int n = Math.min(length, key.length);
+        for (int i = 0; i < n; i++) {
+            int diff = Byte.toUnsignedInt(index.get(at + i)) - Byte.toUnsignedInt(key[i]);
+            if (diff != 0) return diff;
+        }
+        return length - key.length;
+    }
+
+    private String string(int offset) {
+        int at = strings + offset;
+        byte[] bytes = new byte[Short.toUnsignedInt(index.getShort(at))];
+        index.get(at + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean current(Path indexFile, BasicFileAttributes source) throws IOException {
+        if (!Files.isRegularFile(indexFile) || Files.size(indexFile) < HEADER) return false;
+        try (FileChannel in = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            var header = in.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+            return header.getInt(0) == MAGIC
+                    && header.getInt(4) == VERSION
+                    && header.getLong(8) == source.size()
+                    && header.getLong(16) == source.lastModifiedTime().toMillis();
+        }
+    }
+
+    private record Entry(byte[] named, byte[] obf, long start, int length) {}
+
+    /// One pass over the mapped text; written to a temp file and renamed, so
+    /// instances starting together never map a half-written index.
+    static void build(Path proguard, Path indexFile) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        long size;
+        try (FileChannel src = FileChannel.open(proguard, StandardOpenOption.READ)) {
+            size = src.size();
+            if (size > Integer.MAX_VALUE) throw new IOException("Mappings too large to index: " + proguard);
+            MappedByteBuffer text = src.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            byte[] namedOpen = null, obfOpen = null;
+            int sectionStart = 0;
+            int line = 0;
+            while (line < size) {
+                int end = line;
+                while (end < size && text.get(end) != '\n') end++;
+                byte first = line < end ? text.get(line) : (byte) ' ';
+                if (first != ' ' && first != '\t' && first != '#') {
+                    // "named -> obf:" closes the previous class's section
+                    byte[] header = new byte[end - line];
+                    text.get(line, header);
+                    String s = new String(header, StandardCharsets.UTF_8).stripTrailing();
+                    int arrow = s.indexOf(" -> ");
+                    if (arrow > 0 && s.endsWith(":")) {
+                        if (namedOpen != null) entries.add(new Entry(namedOpen, obfOpen, sectionStart, line - sectionStart));
+                        namedOpen = s.substring(0, arrow).getBytes(StandardCharsets.UTF_8);
+                        obfOpen = s.substring(arrow + 4, s.length() - 1).getBytes(StandardCharsets.UTF_8);
+                        sectionStart = Math.min(end + 1, (int) size);
+                    }
+                }
+                line = end + 1;
+            }
+            if (namedOpen != null) entries.add(new Entry(namedOpen, obfOpen, sectionStart, (int) size - sectionStart));
+        }
+        entries.sort((a, b) -> Arrays.compareUnsigned(a.named(), b.named()));
+
+        ByteArrayOutputStream heap = new ByteArrayOutputStream();
+        DataOutputStream heapOut = new DataOutputStream(heap);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER + entries.size() * SLOT);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(size);
+        out.writeLong(Files.getLastModifiedTime(proguard).toMillis());
+        out.writeInt(entries.size());
+        for (Entry e : entries) {
+            out.writeInt(heapOut.size());
+            heapOut.writeShort(e.named().length);
+            heapOut.write(e.named());
+            out.writeInt(heapOut.size());
+            heapOut.writeShort(e.obf().length);
+            heapOut.write(e.obf());
+            out.writeLong(e.start());
+            out.writeInt(e.length());
+        }
+        heap.writeTo(out);
+
+        Path temp = Files.createTempFile(indexFile.getParent(), "." + indexFile.getFileName(), ".tmp");
+        try {
+            Files.write(temp, bytes.toByteArray());
+            try {
+                Files.move(temp, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
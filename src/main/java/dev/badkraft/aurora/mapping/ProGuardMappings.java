@@ -0,0 +1,167 @@
+/// src/main/java/dev/badkraft/aurora/mapping/ProGuardMappings.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.mapping;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static dev.badkraft.aurora.Loader.MC_VERSION;
+import static dev.badkraft.aurora.utils.Directories.MAPPINGS_DIR;
+
+/// Resolves Mojang names to the obfuscated names the game actually runs with,
+/// straight from the raw ProGuard file [MappingBuilder] saves next to the
+/// `.aurora` mappings.
+///
+///   net.minecraft.server.MinecraftServer -> abc:
+///       void tickServer(java.util.function.BooleanSupplier) -> a
+///       12:40:void tickServer(java.util.function.BooleanSupplier):100:128 -> a
+///
+/// The file is large, so members are only kept for the classes asked for;
+/// every class name is kept because descriptors need them.
+public final class ProGuardMappings {
+    public static final Path DEFAULT_FILE = MAPPINGS_DIR.resolve("mc-" + MC_VERSION + "-proguard.txt");
+
+    /// An obfuscated method: internal class name, method name and descriptor.
+    public record MethodMapping(String owner, String name, String descriptor) {}
+
+    private record Member(String name, String returnType, String params, String obf) {}
+
+    private final Map<String, String> classes = new HashMap<>();            // named -> obf
+    private final Map<String, List<Member>> members = new HashMap<>();      // named class -> members
+    private MappingIndex index;                                             // replaces `classes` when set
+
+    private ProGuardMappings() {}
+
+    /// Like [#load], but through the shared [MappingIndex]: class names stay in
+    /// the mapped index and only the requested classes' members are parsed.
+    /// Falls back to [#load] if the index can't be built (e.g. a read-only directory).
+    public static ProGuardMappings open(Path file, Set<String> memberClasses) throws IOException {
+        MappingIndex index;
+        try {
+            index = MappingIndex.open(file);
+        } catch (IOException e) {
+            return load(file, memberClasses);
+        }
+        ProGuardMappings mappings = new ProGuardMappings();
+        mappings.index = index;
+        for (String named : memberClasses) {
+            String section = index.section(named);
+            if (section == null) continue;
+            List<Member> list = new ArrayList<>();
+            section.lines().forEach(line -> {
+                Member member = line.isBlank() ? null : parseMember(line.trim());
+                if (member != null) list.add(member);
+            });
+            mappings.members.put(named, list);
+        }
+        return mappings;
+    }
+
+    public static ProGuardMappings load(Path file, Set<String> memberClasses) throws IOException {
+        ProGuardMappings mappings = new ProGuardMappings();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            List<Member> current = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                if (!Character.isWhitespace(line.charAt(0))) {
+                    // "named -> obf:"
+                    int arrow = line.indexOf(" -> ");
+                    if (arrow < 0 || !line.endsWith(":")) { current = null; continue; }
+                    String named = line.substring(0, arrow);
+                    mappings.classes.put(named, line.substring(arrow + 4, line.length() - 1));
+                    current = memberClasses.contains(named) ? mappings.members.computeIfAbsent(named, n -> new ArrayList<>()) : null;
+                } else if (current != null) {
+                    Member member = parseMember(line.trim());
+                    if (member != null) current.add(member);
+                }
+            }
+        }
+        return mappings;
+    }
+
+    public String obfClass(String named) {
+        return index != null ? index.obf(named) : classes.get(named);
+    }
+
+    /// Looks up `namedClass.method(paramTypes)` — parameter types as written in
+    /// Java source (`java.util.function.BooleanSupplier`, `int[]`). Null if unmapped.
+    public MethodMapping method(String namedClass, String method, String... paramTypes) {
+        String obfOwner = obfClass(namedClass);
+        List<Member> list = members.get(namedClass);
+        if (obfOwner == null || list == null) return null;
+        String params = String.join(",", paramTypes);
+        for (Member m : list) {
+            if (m.returnType != null && m.name.equals(method) && m.params.equals(params)) {
+                StringBuilder desc = new StringBuilder("(");
+                if (!params.isEmpty()) {
+                    for (String p : paramTypes) desc.append(descriptor(p));
+                }
+                desc.append(')').append(descriptor(m.returnType));
+                return new MethodMapping(obfOwner.replace('.', '/'), m.obf, desc.toString());
+            }
+        }
+        return null;
+    }
+
+    /// JVM descriptor of a source-level type, with game classes mapped to their obfuscated names.
+    public String descriptor(String type) {
+        if (type.endsWith("[]")) return "[" + descriptor(type.substring(0, type.length() - 2));
+        return switch (type) {
+            case "void" -> "V";
+            case "boolean" -> "Z";
+            case "byte" -> "B";
+            case "char" -> "C";
+            case "short" -> "S";
+            case "int" -> "I";
+            case "float" -> "F";
+            case "long" -> "J";
+            case "double" -> "D";
+            default -> "L" + Objects.requireNonNullElse(obfClass(type), type).replace('.', '/') + ";";
+        };
+    }
+
+    private static Member parseMember(String line) {
+        // [start:end:]type name[(params)][:origStart:origEnd] -> obf
+        int arrow = line.indexOf(" -> ");
+        if (arrow < 0) return null;
+        String obf = line.substring(arrow + 4);
+        String sig = line.substring(0, arrow);
+        while (!sig.isEmpty() && Character.isDigit(sig.charAt(0))) {
+            sig = sig.substring(sig.indexOf(':') + 1);
+        }
+        int space = sig.indexOf(' ');
+        if (space < 0) return null;
+        String type = sig.substring(0, space);
+        String rest = sig.substring(space + 1);
+        int paren = rest.indexOf('(');
+        if (paren < 0) {
+            return new Member(rest, null, null, obf);  // field
+        }
+        int close = rest.indexOf(')', paren);
+        return new Member(rest.substring(0, paren), type, rest.substring(paren + 1, close), obf);
+    }
+}
@@ -21,17 +21,32 @@
 /// SOFTWARE.
 package dev.badkraft.aurora.mapping;
 
+import dev.badkraft.aurora.metrics.Metrics;
+
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.nio.file.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 public class ReflectionMapper {
 
     private static final Map<String, MethodHandle> CACHE = new ConcurrentHashMap<>();
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder FAILURES = new LongAdder();
+
+    static {
+        Metrics.register(out -> {
+            out.single("aurora_mapping_cache_handles", "gauge", "Method handles resolved from the mappings", CACHE.size());
+            out.single("aurora_mapping_cache_hits_total", "counter", "Mapped member lookups served from the handle cache", HITS.sum());
+            out.single("aurora_mapping_cache_misses_total", "counter", "Mapped member lookups with no cached handle", MISSES.sum());
+            out.single("aurora_mapping_failures_total", "counter", "Mappings that failed to resolve or to invoke", FAILURES.sum());
+        });
+    }
 
     public static void buildCache(Path mappingFile) throws Exception {
         System.out.println("[Aurora] Loading mappings from " + mappingFile);
@@ -56,6 +71,7 @@ public class ReflectionMapper {
                     MethodHandle mh = LOOKUP.findVirtual(clazz, name, mt);
                     CACHE.put(clazz.getSimpleName() + "." + name, mh);
                 } catch (Throwable t) {
+                    FAILURES.increment();
                     System.err.println("[Aurora] Failed to map: " + line);
                 }
             }
@@ -63,23 +79,34 @@ public class ReflectionMapper {
         System.out.println("[Aurora] Loaded " + CACHE.size() + " method handles.");
     }
 
+    /** Cached handle for `SimpleClassName.method`, or null when unmapped */
+    public static MethodHandle find(String key) {
+        MethodHandle mh = CACHE.get(key);
+        (mh != null ? HITS : MISSES).increment();
+        return mh;
+    }
+
     public static void apply(Object target, Map<String, Object> fields) {
         String classKey = target.getClass().getSimpleName();
         fields.forEach((key, value) -> {
             MethodHandle mh = CACHE.get(classKey + "." + key);
             if (mh != null) {
+                HITS.increment();
                 try {
-                    mh.invokeExact(target, value);
+                    // handles are typed (Target, Arg); invokeExact with Objects would always throw
+                    mh.invoke(target, value);
                 } catch (Throwable t) {
+                    FAILURES.increment();
                     System.err.println("[Aurora] Failed to apply " + key + " = " + value);
                 }
             } else {
+                MISSES.increment();
                 System.out.println("[Aurora] Unmapped field: " + key);
             }
         });
     }
 
-    private static MethodType descriptorToMethodType(String desc) throws ClassNotFoundException {
+    static MethodType descriptorToMethodType(String desc) throws ClassNotFoundException {
         int paren = desc.indexOf(')');
         String params = desc.substring(1, paren);
         String ret = desc.substring(paren + 1);
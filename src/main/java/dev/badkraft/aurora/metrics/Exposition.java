@@ -0,0 +1,79 @@
+/// src/main/java/dev/badkraft/aurora/metrics/Exposition.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.metrics;
+
+/// Prometheus text format (0.0.4), written by [Metrics.Collector]s during a scrape.
+///
+///   out.family("aurora_events_posted_total", "counter", "Events posted, by type");
+///   out.sample("aurora_events_posted_total", "type", "BlockPlacedEvent", 42);
+public final class Exposition {
+    private final StringBuilder text = new StringBuilder(4096);
+
+    Exposition() {}
+
+    /// `# HELP` and `# TYPE` lines; once per metric, before its samples.
+    public Exposition family(String name, String type, String help) {
+        text.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    public Exposition sample(String name, double value) {
+        text.append(name).append(' ');
+        return value(value);
+    }
+
+    public Exposition sample(String name, String label, String labelValue, double value) {
+        text.append(name).append('{').append(label).append("=\"");
+        for (int i = 0; i < labelValue.length(); i++) {
+            char c = labelValue.charAt(i);
+            switch (c) {
+                case '\\' -> text.append("\\\\");
+                case '"' -> text.append("\\\"");
+                case '\n' -> text.append("\\n");
+                default -> text.append(c);
+            }
+        }
+        text.append("\"} ");
+        return value(value);
+    }
+
+    /// A single-sample counter or gauge, with its header.
+    public Exposition single(String name, String type, String help, double value) {
+        return family(name, type, help).sample(name, value);
+    }
+
+    private Exposition value(double value) {
+        if (value == (long) value) text.append((long) value);
+        else if (Double.isNaN(value)) text.append("NaN");
+        else if (Double.isInfinite(value)) text.append(value > 0 ? "+Inf" : "-Inf");
+        else text.append(value);
+        text.append('\n');
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
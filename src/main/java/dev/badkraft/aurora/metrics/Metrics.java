@@ -0,0 +1,65 @@
+/// src/main/java/dev/badkraft/aurora/metrics/Metrics.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+
+/// Runtime counters for scraping, gathered only when asked for.
+///
+/// Subsystems keep their own counts — [java.util.concurrent.atomic.LongAdder]s
+/// striped across threads, histograms they already maintain — and register a
+/// [Collector] that reads them. Nothing here runs on the hot paths: a
+/// collector is only invoked by [#scrape], so with no [MetricsServer]
+/// running, or nobody scraping it, metrics cost one uncontended add per event.
+public final class Metrics {
+    /// Writes one subsystem's metrics; called on the scraping thread.
+    @FunctionalInterface
+    public interface Collector {
+        void collect(Exposition out);
+    }
+
+    private static final List<Collector> COLLECTORS = new CopyOnWriteArrayList<>();
+
+    private Metrics() {}
+
+    public static void register(Collector collector) {
+        COLLECTORS.add(collector);
+    }
+
+    /// Every registered collector's output, in registration order. A failing
+    /// collector is skipped rather than failing the scrape.
+    public static String scrape() {
+        Exposition out = new Exposition();
+        for (Collector collector : COLLECTORS) {
+            try {
+                collector.collect(out);
+            } catch (RuntimeException e) {
+                error("Metrics collector %s failed: %s", collector.getClass().getName(), e);
+            }
+        }
+        return out.toString();
+    }
+}
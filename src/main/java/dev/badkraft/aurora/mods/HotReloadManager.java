@@ -0,0 +1,188 @@
+/// src/main/java/dev/badkraft/aurora/mods/HotReloadManager.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.mods;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.debug;
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/// Watches the mods and assets trees and feeds changes back into the game.
+///
+/// Editors save in bursts (temp file, rename, touch), so events are collected
+/// until the tree has been quiet for `aurora.hotReload.debounceMs` (default
+/// 250ms) and then handled as one batch: changed `.aml` scripts are re-parsed
+/// by [ModRegistry#reload], which applies only the diff; everything else is
+/// handed to the asset listeners.
+public final class HotReloadManager implements AutoCloseable {
+    private static final long DEBOUNCE_MS = Long.getLong("aurora.hotReload.debounceMs", 250);
+
+    private final List<Path> roots;
+    private final ModRegistry registry;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watched = new HashMap<>();
+    private final List<Consumer<Set<Path>>> assetListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private Thread watcherThread;
+
+    public HotReloadManager(ModRegistry registry, Path... roots) throws IOException {
+        this.registry = registry;
+        this.roots = List.of(roots);
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /// Called with every debounced batch of changed non-script files.
+    public void onAssetsChanged(Consumer<Set<Path>> listener) {
+        assetListeners.add(listener);
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) return;
+        for (Path root : roots) {
+            Files.createDirectories(root);
+            registerTree(root);
+        }
+        running = true;
+        watcherThread = new Thread(this::watchLoop, "Aurora-HotReload");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        info("Hot reload watching %s (debounce %dms)", roots, DEBOUNCE_MS);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        running = false;
+        watchService.close();
+        if (watcherThread != null) watcherThread.interrupt();
+    }
+
+    private void watchLoop() {
+        Set<Path> pending = new LinkedHashSet<>();
+        try {
+            while (running) {
+                // block for the first event, then drain until the burst settles
+                WatchKey key = watchService.take();
+                boolean overflow = collect(key, pending);
+                while ((key = watchService.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null) {
+                    overflow |= collect(key, pending);
+                }
+                if (overflow) {
+                    pending.addAll(rescan());
+                }
+                dispatch(pending);
+                pending.clear();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // shutting down
+        } catch (Throwable t) {
+            error("Hot reload watcher died: %s", t);
+        }
+    }
+
+    private boolean collect(WatchKey key, Set<Path> pending) {
+        Path dir = watched.get(key);
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflow = true;
+                continue;
+            }
+            if (dir == null) continue;
+            Path changed = dir.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(changed)) {
+                // a copied-in mod folder: watch it and pick up what's already inside
+                try {
+                    registerTree(changed);
+                    try (Stream<Path> walk = Files.walk(changed)) {
+                        walk.filter(Files::isRegularFile).forEach(pending::add);
+                    }
+                } catch (IOException e) {
+                    error("Failed to watch %s: %s", changed, e);
+                }
+                continue;
+            }
+            pending.add(changed);
+        }
+        if (!key.reset()) {
+            watched.remove(key);
+        }
+        return overflow;
+    }
+
+    private void dispatch(Set<Path> pending) {
+        if (pending.isEmpty()) return;
+        List<Path> scripts = new ArrayList<>();
+        Set<Path> assets = new LinkedHashSet<>();
+        for (Path path : pending) {
+            if (ModRegistry.isScript(path)) scripts.add(path);
+            else if (!Files.isDirectory(path)) assets.add(path);
+        }
+        debug("Hot reload batch: %d script(s), %d asset(s)", scripts.size(), assets.size());
+
+        long start = System.nanoTime();
+        if (!scripts.isEmpty()) {
+            registry.reload(scripts);
+        }
+        if (!assets.isEmpty()) {
+            for (Consumer<Set<Path>> listener : assetListeners) {
+                try {
+                    listener.accept(Collections.unmodifiableSet(assets));
+                } catch (Exception e) {
+                    error("Asset reload listener failed: %s", e);
+                }
+            }
+        }
+        info("Hot reload applied %d change(s) in %dms", pending.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Path> rescan() {
+        // events were lost — fall back to every script we know plus everything on disk
+        List<Path> all = new ArrayList<>();
+        registry.scripts().forEach(s -> all.add(s.source()));
+        for (Path root : roots) {
+            try (Stream<Path> walk = Files.walk(root)) {
+                walk.filter(Files::isRegularFile).forEach(all::add);
+            } catch (IOException e) {
+                error("Rescan of %s failed: %s", root, e);
+            }
+        }
+        return all;
+    }
+
+    private void registerTree(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path dir : walk.filter(Files::isDirectory).toList()) {
+                WatchKey key = dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                watched.put(key, dir);
+            }
+        }
+    }
+}
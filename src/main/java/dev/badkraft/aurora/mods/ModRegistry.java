@@ -0,0 +1,233 @@
+/// src/main/java/dev/badkraft/aurora/mods/ModRegistry.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.mods;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Live view of every block and recipe the loaded mod scripts define.
+/// Scripts are tracked per file so a reload only touches what changed:
+/// each re-parsed script is diffed against its previous version and the
+/// listeners receive just the added, changed and removed definitions.
+public final class ModRegistry {
+
+    /// Receives the diff of a (re)load. Called on the thread doing the load —
+    /// the launcher thread at startup, the hot-reload watcher afterwards.
+    public interface Listener {
+        default void blockAdded(BlockDefinition block) {}
+        default void blockChanged(BlockDefinition previous, BlockDefinition current) {}
+        default void blockRemoved(BlockDefinition block) {}
+        default void recipeAdded(RecipeDefinition recipe) {}
+        default void recipeChanged(RecipeDefinition previous, RecipeDefinition current) {}
+        default void recipeRemoved(RecipeDefinition recipe) {}
+        /// A mod script was re-parsed (or deleted) — fired before the block and recipe diffs.
+        default void scriptReloaded(String modid, Path script) {}
+    }
+
+    private static final ModRegistry INSTANCE = new ModRegistry();
+
+    private final Map<Path, ModScript> scripts = new ConcurrentHashMap<>();
+    private final Map<String, BlockDefinition> blocks = new ConcurrentHashMap<>();
+    private final Map<String, RecipeDefinition> recipes = new ConcurrentHashMap<>();
+    // id -> the script whose definition is live; a later duplicate elsewhere never replaces it
+    private final Map<String, Path> blockOwners = new HashMap<>();
+    private final Map<String, Path> recipeOwners = new HashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private ModRegistry() {}
+
+    public static ModRegistry get() {
+        return INSTANCE;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public Collection<BlockDefinition> blocks() {
+        return Collections.unmodifiableCollection(blocks.values());
+    }
+
+    public Collection<RecipeDefinition> recipes() {
+        return Collections.unmodifiableCollection(recipes.values());
+    }
+
+    public Collection<ModScript> scripts() {
+        return Collections.unmodifiableCollection(scripts.values());
+    }
+
+    public BlockDefinition block(String fullId) {
+        return blocks.get(fullId);
+    }
+
+    /// Parses every `.aml` file below `modsDir`.
+    public void loadAll(Path modsDir) throws IOException {
+        if (!Files.isDirectory(modsDir)) {
+            info("No mods directory at %s", modsDir);
+            return;
+        }
+        List<Path> found;
+        try (Stream<Path> walk = Files.walk(modsDir)) {
+            found = walk.filter(ModRegistry::isScript).toList();
+        }
+        reload(found);
+        info("Loaded %d mod script(s), %d block(s), %d recipe(s)", scripts.size(), blocks.size(), recipes.size());
+    }
+
+    /// Re-parses only the given scripts and applies the difference.
+    /// A path that no longer exists unloads whatever that script defined.
+    public synchronized void reload(Collection<Path> changed) {
+        for (Path path : changed) {
+            Path script = path.toAbsolutePath().normalize();
+            ModScript previous = scripts.get(script);
+            ModScript current = null;
+            if (Files.exists(script)) {
+                try {
+                    current = ModScript.parse(script);
+                } catch (Exception e) {
+                    // keep the last good version live — a half-saved file shouldn't unload a mod
+                    error("Failed to parse %s: %s", script, e);
+                    continue;
+                }
+            }
+            if (Objects.equals(previous, current)) continue;
+
+            if (current != null) scripts.put(script, current);
+            else scripts.remove(script);
+
+            String modid = current != null ? current.modid() : previous.modid();
+            listeners.forEach(l -> l.scriptReloaded(modid, script));
+            applyDiff(script,
+                    previous != null ? previous.blocks() : List.of(),
+                    current != null ? current.blocks() : List.of());
+            applyRecipeDiff(script,
+                    previous != null ? previous.recipes() : List.of(),
+                    current != null ? current.recipes() : List.of());
+        }
+    }
+
+    private void applyDiff(Path script, List<BlockDefinition> before, List<BlockDefinition> after) {
+        Set<String> dropped = new HashSet<>();
+        before.forEach(b -> dropped.add(b.fullId()));
+        Set<String> declared = new HashSet<>();
+
+        for (BlockDefinition block : after) {
+            String id = block.fullId();
+            dropped.remove(id);
+            Path owner = blockOwners.putIfAbsent(id, script);
+            if (!declared.add(id) || owner != null && !owner.equals(script)) {
+                error("Duplicate block %s — keeping the first definition", id);
+                continue;
+            }
+            BlockDefinition previous = blocks.put(id, block);
+            if (previous == null) {
+                info("Block added: %s", id);
+                listeners.forEach(l -> l.blockAdded(block));
+            } else if (!previous.equals(block)) {
+                info("Block changed: %s %s -> %s", id, previous.properties(), block.properties());
+                listeners.forEach(l -> l.blockChanged(previous, block));
+            }
+        }
+        for (String id : dropped) {
+            // a duplicate this script lost never was its to remove
+            if (!blockOwners.remove(id, script)) continue;
+            BlockDefinition removed = blocks.remove(id);
+            info("Block removed: %s", id);
+            listeners.forEach(l -> l.blockRemoved(removed));
+            reclaimBlock(id);
+        }
+    }
+
+    /// Hands `id` to another loaded script that declares it, now that its owner dropped it.
+    private void reclaimBlock(String id) {
+        for (Map.Entry<Path, ModScript> entry : scripts.entrySet()) {
+            for (BlockDefinition block : entry.getValue().blocks()) {
+                if (!block.fullId().equals(id)) continue;
+                blockOwners.put(id, entry.getKey());
+                blocks.put(id, block);
+                info("Block added: %s (from %s)", id, entry.getKey().getFileName());
+                listeners.forEach(l -> l.blockAdded(block));
+                return;
+            }
+        }
+    }
+
+    private void applyRecipeDiff(Path script, List<RecipeDefinition> before, List<RecipeDefinition> after) {
+        Set<String> dropped = new HashSet<>();
+        before.forEach(r -> dropped.add(r.fullId()));
+        Set<String> declared = new HashSet<>();
+
+        for (RecipeDefinition recipe : after) {
+            String id = recipe.fullId();
+            dropped.remove(id);
+            Path owner = recipeOwners.putIfAbsent(id, script);
+            if (!declared.add(id) || owner != null && !owner.equals(script)) {
+                error("Duplicate recipe %s — keeping the first definition", id);
+                continue;
+            }
+            RecipeDefinition previous = recipes.put(id, recipe);
+            if (previous == null) {
+                info("Recipe added: %s", id);
+                listeners.forEach(l -> l.recipeAdded(recipe));
+            } else if (!previous.equals(recipe)) {
+                info("Recipe changed: %s", id);
+                listeners.forEach(l -> l.recipeChanged(previous, recipe));
+            }
+        }
+        for (String id : dropped) {
+            if (!recipeOwners.remove(id, script)) continue;
+            RecipeDefinition removed = recipes.remove(id);
+            info("Recipe removed: %s", id);
+            listeners.forEach(l -> l.recipeRemoved(removed));
+            reclaimRecipe(id);
+        }
+    }
+
+    private void reclaimRecipe(String id) {
+        for (Map.Entry<Path, ModScript> entry : scripts.entrySet()) {
+            for (RecipeDefinition recipe : entry.getValue().recipes()) {
+                if (!recipe.fullId().equals(id)) continue;
+                recipeOwners.put(id, entry.getKey());
+                recipes.put(id, recipe);
+                info("Recipe added: %s (from %s)", id, entry.getKey().getFileName());
+                listeners.forEach(l -> l.recipeAdded(recipe));
+                return;
+            }
+        }
+    }
+
+    static boolean isScript(Path path) {
+        return path.getFileName().toString().endsWith(".aml") && !Files.isDirectory(path);
+    }
+}
@@ -0,0 +1,137 @@
+/// src/main/java/dev/badkraft/aurora/mods/ModScript.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.mods;
+
+import dev.badkraft.anvil.api.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/// Parsed view of one `.aml` mod script.
+///
+///   #!aml
+///   modid := "badkraft"
+///   block := {
+///      name     := "titanium_ore"
+///      hardness := 3.0
+///   }
+///   recipe := {
+///      result      := "badkraft:titanium_ingot"
+///      ingredients := "badkraft:titanium_ore minecraft:coal"
+///   }
+///
+/// One `block` and one `recipe` per script: the Anvil API looks values up by
+/// name and cannot enumerate repeats, so [#parse] rejects a script that
+/// declares either twice instead of silently keeping one of them.
+public record ModScript(Path source, String modid, List<BlockDefinition> blocks, List<RecipeDefinition> recipes) {
+    static final List<String> BLOCK_PROPERTIES = List.of("hardness", "resistance", "luminance", "model", "texture");
+    static final List<String> RECIPE_PROPERTIES = List.of("result", "count", "pattern", "key", "ingredients");
+
+    public ModScript {
+        blocks = List.copyOf(blocks);
+        recipes = List.copyOf(recipes);
+    }
+
+    public static ModScript parse(Path script) throws Exception {
+        Map<String, Integer> declared = topLevelDeclarations(Files.readString(script), Set.of("block", "recipe"));
+        for (Map.Entry<String, Integer> e : declared.entrySet()) {
+            if (e.getValue() > 1) {
+                throw new IllegalStateException(script + " declares " + e.getValue() + " " + e.getKey()
+                        + " entries; only one " + e.getKey() + " per script is supported — move the others to their own scripts");
+            }
+        }
+        AnvilModule module = Anvil.parse(script);
+        String modid = module.getString("modid");
+        if (modid == null || modid.isBlank()) {
+            throw new IllegalStateException("Missing modid in " + script);
+        }
+
+        List<BlockDefinition> blocks = new ArrayList<>();
+        var blockValue = module.getObject("block");
+        AnvilObject block = blockValue != null ? blockValue.asObject() : null;
+        if (block != null) {
+            String name = block.getString("name");
+            if (name == null || name.isBlank()) {
+                throw new IllegalStateException("Block without name in " + script);
+            }
+            Map<String, String> properties = new LinkedHashMap<>();
+            for (String key : BLOCK_PROPERTIES) {
+                String value = block.getString(key);
+                if (value != null) properties.put(key, value);
+            }
+            blocks.add(new BlockDefinition(modid, name, properties));
+        }
+
+        List<RecipeDefinition> recipes = new ArrayList<>();
+        var recipeValue = module.getObject("recipe");
+        AnvilObject recipe = recipeValue != null ? recipeValue.asObject() : null;
+        if (recipe != null) {
+            String result = recipe.getString("result");
+            if (result == null || result.isBlank()) {
+                throw new IllegalStateException("Recipe without result in " + script);
+            }
+            // unnamed recipes are named after what they make
+            String name = recipe.getString("name");
+            if (name == null || name.isBlank()) name = result.substring(result.indexOf(':') + 1);
+            Map<String, String> properties = new LinkedHashMap<>();
+            for (String key : RECIPE_PROPERTIES) {
+                String value = recipe.getString(key);
+                if (value != null) properties.put(key, value);
+            }
+            recipes.add(new RecipeDefinition(modid, name, properties));
+        }
+        return new ModScript(script, modid, blocks, recipes);
+    }
+
+    /// How often each of `keys` is assigned (`key :=`) outside any braces,
+    /// skipping strings and `//` comments.
+    static Map<String, Integer> topLevelDeclarations(String text, Set<String> keys) {
+        Map<String, Integer> counts = new HashMap<>();
+        int depth = 0;
+        int n = text.length();
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                for (i++; i < n && text.charAt(i) != '"'; i++) {
+                    if (text.charAt(i) == '\\') i++;
+                }
+            } else if (c == '/' && i + 1 < n && text.charAt(i + 1) == '/') {
+                while (i < n && text.charAt(i) != '\n') i++;
+            } else if (c == '{' || c == '[' || c == '(') {
+                depth++;
+            } else if (c == '}' || c == ']' || c == ')') {
+                depth--;
+            } else if (depth == 0 && Character.isJavaIdentifierStart(c)) {
+                int end = i;
+                while (end < n && Character.isJavaIdentifierPart(text.charAt(end))) end++;
+                String word = text.substring(i, end);
+                int next = end;
+                while (next < n && (text.charAt(next) == ' ' || text.charAt(next) == '\t')) next++;
+                if (keys.contains(word) && text.startsWith(":=", next)) counts.merge(word, 1, Integer::sum);
+                i = end - 1;
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,47 @@
+/// src/main/java/dev/badkraft/aurora/mods/RecipeDefinition.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.mods;
+
+import java.util.Map;
+
+/// A single `recipe := { ... }` entry from a mod's AML script.
+///
+///   recipe := {
+///      name    := "emerald_sword"
+///      result  := "simple_crafts:emerald_sword"
+///      pattern := " E | E | S "
+///      key     := "E=minecraft:emerald S=minecraft:stick"
+///   }
+///
+/// A shapeless recipe lists `ingredients := "emerald emerald stick"` instead
+/// of `pattern`/`key`. Like [BlockDefinition], properties stay raw AML
+/// strings; [dev.badkraft.aurora.recipe.RecipeIndex] compiles them.
+public record RecipeDefinition(String modid, String name, Map<String, String> properties) {
+    public RecipeDefinition {
+        properties = Map.copyOf(properties);
+    }
+
+    public String fullId() {
+        return modid + ":" + name;
+    }
+}
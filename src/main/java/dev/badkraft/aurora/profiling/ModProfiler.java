@@ -0,0 +1,187 @@
+/// src/main/java/dev/badkraft/aurora/profiling/ModProfiler.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.FlightRecorder;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Attributes CPU time and allocated bytes to the mod that caused them.
+///
+/// Aurora brackets every call into mod code — event handlers, timer tasks,
+/// script initializers — with [#enter(ModAccount)] / [#exit()]. Time is
+/// *self* time: when a handler fires an event that runs another mod, the
+/// inner mod's share is subtracted from the outer one.
+///
+/// Totals sit in [LongAdder]s (striped per thread, no contention between
+/// server and worker threads) and the per-thread bracket stack is reused,
+/// so a bracket costs two thread-clock reads and no allocation. On by
+/// default; `-Daurora.modProfiler=false` turns it off. The totals are
+/// available as a sorted [#report()] and as periodic `ModUsage` JFR events.
+public final class ModProfiler {
+    public static final boolean ENABLED = !"false".equals(System.getProperty("aurora.modProfiler"));
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Map<String, ModAccount> ACCOUNTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Frames> FRAMES = ThreadLocal.withInitial(Frames::new);
+
+    static {
+        if (ENABLED) {
+            if (THREADS.isCurrentThreadCpuTimeSupported()) THREADS.setThreadCpuTimeEnabled(true);
+            if (THREADS.isThreadAllocatedMemorySupported()) THREADS.setThreadAllocatedMemoryEnabled(true);
+            FlightRecorder.addPeriodicEvent(ModUsageEvent.class, ModProfiler::emitUsage);
+        }
+    }
+
+    /// Running totals of one mod. Resolve once (at registration) and keep it.
+    public static final class ModAccount {
+        private final String modid;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        // last values sent to JFR; only touched by the periodic event thread
+        private long emittedCalls, emittedCpu, emittedAlloc;
+
+        private ModAccount(String modid) {
+            this.modid = modid;
+        }
+
+        public String modid() {
+            return modid;
+        }
+    }
+
+    public record ModUsage(String modid, long calls, long cpuNanos, long allocatedBytes) {
+        public static final Comparator<ModUsage> BY_CPU = Comparator.comparingLong(ModUsage::cpuNanos).reversed();
+        public static final Comparator<ModUsage> BY_ALLOCATION = Comparator.comparingLong(ModUsage::allocatedBytes).reversed();
+        public static final Comparator<ModUsage> BY_CALLS = Comparator.comparingLong(ModUsage::calls).reversed();
+    }
+
+    /// The current thread's open brackets.
+    private static final class Frames {
+        ModAccount[] accounts = new ModAccount[8];
+        long[] cpuStart = new long[8];
+        long[] allocStart = new long[8];
+        long[] childCpu = new long[8];
+        long[] childAlloc = new long[8];
+        int depth;
+
+        void grow() {
+            int size = accounts.length * 2;
+            accounts = Arrays.copyOf(accounts, size);
+            cpuStart = Arrays.copyOf(cpuStart, size);
+            allocStart = Arrays.copyOf(allocStart, size);
+            childCpu = Arrays.copyOf(childCpu, size);
+            childAlloc = Arrays.copyOf(childAlloc, size);
+        }
+    }
+
+    private ModProfiler() {}
+
+    public static ModAccount account(String modid) {
+        return ACCOUNTS.computeIfAbsent(modid, ModAccount::new);
+    }
+
+    public static void enter(ModAccount account) {
+        if (!ENABLED) return;
+        Frames f = FRAMES.get();
+        if (f.depth == f.accounts.length) f.grow();
+        int d = f.depth++;
+        f.accounts[d] = account;
+        f.childCpu[d] = 0;
+        f.childAlloc[d] = 0;
+        f.allocStart[d] = THREADS.getCurrentThreadAllocatedBytes();
+        f.cpuStart[d] = THREADS.getCurrentThreadCpuTime();
+    }
+
+    /// Closes the innermost bracket. Must pair with [#enter] — call it from `finally`.
+    public static void exit() {
+        if (!ENABLED) return;
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        long alloc = THREADS.getCurrentThreadAllocatedBytes();
+        Frames f = FRAMES.get();
+        int d = --f.depth;
+        ModAccount account = f.accounts[d];
+        f.accounts[d] = null;
+        account.calls.increment();
+
+        // -1 means unsupported here (virtual threads): count the call, skip the figures
+        long cpuTotal = cpu >= 0 && f.cpuStart[d] >= 0 ? cpu - f.cpuStart[d] : 0;
+        long allocTotal = alloc >= 0 && f.allocStart[d] >= 0 ? alloc - f.allocStart[d] : 0;
+        account.cpuNanos.add(Math.max(0, cpuTotal - f.childCpu[d]));
+        account.allocatedBytes.add(Math.max(0, allocTotal - f.childAlloc[d]));
+        if (d > 0) {
+            f.childCpu[d - 1] += cpuTotal;
+            f.childAlloc[d - 1] += allocTotal;
+        }
+    }
+
+    /// Usage of every mod so far, heaviest CPU user first.
+    public static List<ModUsage> report() {
+        return report(ModUsage.BY_CPU);
+    }
+
+    public static List<ModUsage> report(Comparator<ModUsage> order) {
+        List<ModUsage> usage = new ArrayList<>();
+        for (ModAccount a : ACCOUNTS.values()) {
+            usage.add(new ModUsage(a.modid, a.calls.sum(), a.cpuNanos.sum(), a.allocatedBytes.sum()));
+        }
+        usage.sort(order);
+        return usage;
+    }
+
+    public static void logReport() {
+        List<ModUsage> usage = report();
+        if (usage.isEmpty()) return;
+        StringBuilder sb = new StringBuilder("Mod usage:\n");
+        sb.append(String.format("  %-24s %12s %12s %14s%n", "mod", "calls", "cpu ms", "alloc KiB"));
+        for (ModUsage u : usage) {
+            sb.append(String.format("  %-24s %12d %12.2f %14d%n", u.modid(), u.calls(), u.cpuNanos() / 1e6, u.allocatedBytes() / 1024));
+        }
+        info(sb.toString().stripTrailing());
+    }
+
+    private static void emitUsage() {
+        for (ModAccount a : ACCOUNTS.values()) {
+            long calls = a.calls.sum();
+            long cpu = a.cpuNanos.sum();
+            long alloc = a.allocatedBytes.sum();
+            if (calls == a.emittedCalls) continue;
+            ModUsageEvent event = new ModUsageEvent();
+            event.mod = a.modid;
+            event.calls = calls - a.emittedCalls;
+            event.cpuTime = cpu - a.emittedCpu;
+            event.allocated = alloc - a.emittedAlloc;
+            event.commit();
+            a.emittedCalls = calls;
+            a.emittedCpu = cpu;
+            a.emittedAlloc = alloc;
+        }
+    }
+}
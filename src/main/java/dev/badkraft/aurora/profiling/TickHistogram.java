@@ -0,0 +1,116 @@
+/// src/main/java/dev/badkraft/aurora/profiling/TickHistogram.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/// Fixed-size histogram of durations in nanoseconds.
+///
+/// Buckets are logarithmic: every power of two from 2^10ns (~1µs) to 2^37ns
+/// (~2 minutes) is split into 4 linear sub-buckets, which keeps any reported
+/// percentile within 25% of the true value in 109 counters. Recording is a
+/// `numberOfLeadingZeros` and one increment — no allocation, no locks.
+public final class TickHistogram {
+    private static final int MIN_EXP = 10;
+    private static final int MAX_EXP = 37;
+    private static final int SUB_BITS = 2;
+    private static final int SUB = 1 << SUB_BITS;
+    static final int BUCKETS = (MAX_EXP - MIN_EXP) * SUB + 1;   // + one underflow bucket
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        counts.incrementAndGet(bucket(nanos));
+        count.incrementAndGet();
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public long maxNanos() {
+        return max.get();
+    }
+
+    public long meanNanos() {
+        long n = count.get();
+        return n == 0 ? 0 : total.get() / n;
+    }
+
+    /// Upper bound of the bucket holding the `p`-th percentile (0 < p <= 100).
+    public long percentileNanos(double p) {
+        long n = count.get();
+        if (n == 0) return 0;
+        long rank = (long) Math.ceil(n * p / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Math.min(upperBound(i), max.get());
+        }
+        return max.get();
+    }
+
+    /// Bucket counts, lowest first; pair with [#bucketUpperNanos(int)].
+    public long[] snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) snapshot[i] = counts.get(i);
+        return snapshot;
+    }
+
+    public long totalNanos() {
+        return total.get();
+    }
+
+    /// Largest duration bucket `bucket` of [#snapshot()] holds; the last bucket is open-ended.
+    public static long bucketUpperNanos(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : upperBound(bucket);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        count.set(0);
+        total.set(0);
+        max.set(0);
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < 1L << MIN_EXP) return 0;
+        int exp = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exp >= MAX_EXP) return BUCKETS - 1;
+        int sub = (int) (nanos >>> (exp - SUB_BITS)) & (SUB - 1);
+        return 1 + (exp - MIN_EXP) * SUB + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket == 0) return (1L << MIN_EXP) - 1;
+        int exp = (bucket - 1) / SUB + MIN_EXP;
+        int sub = (bucket - 1) % SUB;
+        return (1L << exp) + ((long) (sub + 1) << (exp - SUB_BITS)) - 1;
+    }
+}
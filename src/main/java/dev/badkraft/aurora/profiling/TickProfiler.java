@@ -0,0 +1,150 @@
+/// src/main/java/dev/badkraft/aurora/profiling/TickProfiler.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.profiling;
+
+import dev.badkraft.aurora.metrics.Exposition;
+import dev.badkraft.aurora.metrics.Metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Records server tick durations. The agent's tick transformer calls
+/// [#enter()] and [#exit(long)] around the mapped `tickServer` method.
+///
+/// Two histograms are kept: one for the current summary window (logged and
+/// reset every `aurora.tickProfiler.summarySeconds`, default 60) and one for
+/// the server's lifetime. TPS is counted in 60 one-second buckets, so
+/// [#tps()] is a rolling one-minute average.
+public final class TickProfiler {
+    private static final long SUMMARY_NANOS = Long.getLong("aurora.tickProfiler.summarySeconds", 60) * 1_000_000_000L;
+    private static final int TPS_WINDOW = 60;
+
+    private static final TickHistogram WINDOW = new TickHistogram();
+    private static final TickHistogram LIFETIME = new TickHistogram();
+    private static final AtomicLongArray SECOND_STAMP = new AtomicLongArray(TPS_WINDOW);
+    private static final AtomicLongArray SECOND_TICKS = new AtomicLongArray(TPS_WINDOW);
+
+    // only touched by the server thread
+    private static int depth;
+    private static long windowStart = System.nanoTime();
+    private static volatile long firstSecond = Long.MIN_VALUE;
+
+    /// MSPT and TPS figures; times in milliseconds.
+    public record TickStats(long ticks, double p50, double p99, double max, double mean, double tps) {
+        @Override
+        public String toString() {
+            return "ticks=%d p50=%.2fms p99=%.2fms max=%.2fms mean=%.2fms tps=%.2f"
+                    .formatted(ticks, p50, p99, max, mean, tps);
+        }
+    }
+
+    static {
+        Metrics.register(TickProfiler::collect);
+    }
+
+    private TickProfiler() {}
+
+    /// Returns the start time, or 0 for a nested call (an override calling `super.tickServer`).
+    public static long enter() {
+        return depth++ == 0 ? System.nanoTime() : 0;
+    }
+
+    public static void exit(long start) {
+        if (--depth > 0 || start == 0) return;
+        long now = System.nanoTime();
+        long nanos = now - start;
+        WINDOW.record(nanos);
+        LIFETIME.record(nanos);
+        countTick(now);
+
+        if (now - windowStart >= SUMMARY_NANOS) {
+            info("Tick summary: %s", window());
+            ModProfiler.logReport();
+            WINDOW.reset();
+            windowStart = now;
+        }
+    }
+
+    /// Stats since the last periodic summary.
+    public static TickStats window() {
+        return stats(WINDOW);
+    }
+
+    public static TickStats lifetime() {
+        return stats(LIFETIME);
+    }
+
+    /// Ticks per second over the last full minute (or since the first tick, if sooner).
+    public static double tps() {
+        long first = firstSecond;
+        if (first == Long.MIN_VALUE) return 0;
+        long current = Math.floorDiv(System.nanoTime(), 1_000_000_000L);
+        long ticks = 0;
+        for (int i = 0; i < TPS_WINDOW; i++) {
+            long second = SECOND_STAMP.get(i);
+            if (second < current && current - second <= TPS_WINDOW) ticks += SECOND_TICKS.get(i);
+        }
+        long seconds = Math.min(TPS_WINDOW, current - first);
+        return seconds <= 0 ? 0 : (double) ticks / seconds;
+    }
+
+    /// Lifetime tick durations as a Prometheus histogram. The 109 fine buckets
+    /// are folded into power-of-two bounds, which keeps the scrape small.
+    private static void collect(Exposition out) {
+        long[] buckets = LIFETIME.snapshot();
+        out.family("aurora_tick_duration_seconds", "histogram", "Server tick durations since start");
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i];
+            long upper = TickHistogram.bucketUpperNanos(i);
+            // sub-bucket 3 of each octave ends on the next power of two
+            if (upper == Long.MAX_VALUE || i % 4 != 0) continue;
+            out.sample("aurora_tick_duration_seconds_bucket", "le", Double.toString((upper + 1) / 1e9), cumulative);
+        }
+        out.sample("aurora_tick_duration_seconds_bucket", "le", "+Inf", cumulative);
+        out.sample("aurora_tick_duration_seconds_sum", LIFETIME.totalNanos() / 1e9);
+        out.sample("aurora_tick_duration_seconds_count", cumulative);
+        out.single("aurora_tps", "gauge", "Ticks per second over the last minute", tps());
+    }
+
+    private static void countTick(long now) {
+        long second = Math.floorDiv(now, 1_000_000_000L);
+        if (firstSecond == Long.MIN_VALUE) firstSecond = second;
+        int slot = Math.floorMod(second, TPS_WINDOW);
+        if (SECOND_STAMP.get(slot) != second) {
+            SECOND_TICKS.set(slot, 0);
+            SECOND_STAMP.set(slot, second);
+        }
+        SECOND_TICKS.incrementAndGet(slot);
+    }
+
+    private static TickStats stats(TickHistogram h) {
+        return new TickStats(h.count(),
+                h.percentileNanos(50) / 1e6,
+                h.percentileNanos(99) / 1e6,
+                h.maxNanos() / 1e6,
+                h.meanNanos() / 1e6,
+                tps());
+    }
+}
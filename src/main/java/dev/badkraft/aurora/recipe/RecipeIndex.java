@@ -0,0 +1,352 @@
+/// src/main/java/dev/badkraft/aurora/recipe/RecipeIndex.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.recipe;
+
+import dev.badkraft.aurora.mods.RecipeDefinition;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Every mod recipe, indexed so that matching a crafting grid costs the same
+/// with ten recipes as with ten thousand.
+///
+/// Recipes are compiled to a canonical grid key: item ids interned to ints,
+/// the pattern trimmed to its bounding box, so a recipe matches wherever it
+/// sits in the grid. Shaped recipes are stored under that key and under
+/// its horizontal mirror, as vanilla does; shapeless ones under their
+/// ingredient ids, sorted. A match trims the grid the same way and does one
+/// hash lookup per kind.
+///
+/// Before sorting a grid for the shapeless lookup, a 64-bit prefilter is
+/// checked: for each ingredient count, the union of `1 << (id & 63)` over
+/// the shapeless recipes of that size. A grid holding any item outside it
+/// can't match one, which is the usual case for a grid mid-edit.
+///
+/// Two recipes with the same grid can't both match; the first one added
+/// keeps it and the others wait behind it, taking over in order when it is
+/// removed or changes shape.
+///
+/// Adding and removing recipes is incremental and serialized; matching is
+/// lock-free and may run concurrently with a hot reload.
+public final class RecipeIndex {
+    /// Largest grid side: the crafting table.
+    public static final int MAX_SIDE = 3;
+    private static final int MAX_CELLS = MAX_SIDE * MAX_SIDE;
+    private static final int EMPTY = 0;
+
+    private static final RecipeIndex INSTANCE = new RecipeIndex();
+
+    public static RecipeIndex get() {
+        return INSTANCE;
+    }
+
+    /// Canonical form of a grid: trimmed, row-major item ids. Shapeless keys are `n × 1`, sorted.
+    private static final class GridKey {
+        final int width;
+        final int height;
+        final int[] cells;
+        final int hash;
+
+        GridKey(int width, int height, int[] cells) {
+            this.width = width;
+            this.height = height;
+            this.cells = cells;
+            this.hash = 31 * (31 * width + height) + Arrays.hashCode(cells);
+        }
+
+        GridKey mirrored() {
+            int[] flipped = new int[cells.length];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) flipped[y * width + x] = cells[y * width + (width - 1 - x)];
+            }
+            return new GridKey(width, height, flipped);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GridKey k && k.hash == hash && k.width == width && k.height == height
+                    && Arrays.equals(k.cells, cells);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /// Every key one recipe compiled to — held, or waited for — so it can be taken out again.
+    private record Entry(Recipe recipe, List<GridKey> keys) {}
+
+    private final Map<String, Integer> items = new ConcurrentHashMap<>();
+    private final Map<GridKey, Recipe> shaped = new ConcurrentHashMap<>();
+    private final Map<GridKey, Recipe> shapeless = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();               // writers only
+    private final Map<GridKey, List<Recipe>> shapedWaiting = new HashMap<>();    // writers only: losers, oldest first
+    private final Map<GridKey, List<Recipe>> shapelessWaiting = new HashMap<>(); // writers only
+    private final int[][] maskBits = new int[MAX_CELLS + 1][Long.SIZE];      // writers only: recipes using each bit
+    private volatile long[] shapelessMasks = new long[MAX_CELLS + 1];
+    private int nextItem = 1;                                                  // writers only
+
+    public RecipeIndex() {}
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /// Compiles and indexes `definition`, replacing any recipe with the same id.
+    ///
+    /// @throws IllegalArgumentException if the definition doesn't describe a valid recipe
+    public synchronized Recipe add(RecipeDefinition definition) {
+        Map<String, String> p = definition.properties();
+        String result = itemName(p.get("result"));
+        int count = p.containsKey("count") ? (int) Double.parseDouble(p.get("count")) : 1;
+        if (count < 1 || count > 64) throw new IllegalArgumentException("count " + count + " in " + definition.fullId());
+
+        GridKey key;
+        boolean isShaped = p.containsKey("pattern");
+        if (isShaped) {
+            key = compilePattern(p.get("pattern"), p.getOrDefault("key", ""));
+        } else if (p.containsKey("ingredients")) {
+            key = compileIngredients(p.get("ingredients"));
+        } else {
+            throw new IllegalArgumentException("Recipe " + definition.fullId() + " has neither pattern nor ingredients");
+        }
+
+        Recipe recipe = new Recipe(definition.fullId(), result, count, isShaped, key.width, key.height);
+        List<GridKey> keys = new ArrayList<>(2);
+        keys.add(key);
+        if (isShaped) {
+            GridKey mirror = key.mirrored();
+            if (!mirror.equals(key)) keys.add(mirror);
+        }
+        Entry previous = entries.put(recipe.id(), new Entry(recipe, keys));
+        // a changed recipe keeps its place on the grids it still covers
+        boolean sameKind = previous != null && previous.recipe().shaped() == isShaped;
+        if (previous != null) {
+            for (GridKey k : previous.keys()) {
+                if (!sameKind || !keys.contains(k)) release(previous.recipe(), k);
+            }
+        }
+        for (GridKey k : keys) {
+            if (sameKind && previous.keys().contains(k)) replace(previous.recipe(), recipe, k);
+            else claim(recipe, k);
+        }
+        return recipe;
+    }
+
+    /// Takes a recipe out of the index; false if it wasn't there.
+    public synchronized boolean remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) return false;
+        for (GridKey key : entry.keys()) release(entry.recipe(), key);
+        return true;
+    }
+
+    /// Replaces the whole index; definitions that fail to compile are logged and skipped.
+    public synchronized void rebuild(Collection<RecipeDefinition> definitions) {
+        for (String id : new ArrayList<>(entries.keySet())) remove(id);
+        for (RecipeDefinition definition : definitions) {
+            try {
+                add(definition);
+            } catch (IllegalArgumentException e) {
+                error("Recipe %s skipped: %s", definition.fullId(), e.getMessage());
+            }
+        }
+    }
+
+    /// The interned id of an item, or -1 if no recipe uses it.
+    public int itemId(String item) {
+        if (item == null || item.isEmpty()) return EMPTY;
+        Integer id = items.get(itemName(item));
+        return id == null ? -1 : id;
+    }
+
+    /// Matches a row-major grid of item ids from [#itemId]; 0 is an empty
+    /// slot, -1 an item no recipe uses. Null when nothing matches.
+    public Recipe match(int width, int height, int[] grid) {
+        if (width < 1 || height < 1 || width * height > grid.length) return null;
+        int minX = width, minY = height, maxX = -1, maxY = -1, filled = 0;
+        long mask = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int id = grid[y * width + x];
+                if (id == EMPTY) continue;
+                if (id < 0) return null;
+                filled++;
+                mask |= 1L << (id & 63);
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x);
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+            }
+        }
+        if (filled == 0) return null;
+
+        int w = maxX - minX + 1, h = maxY - minY + 1;
+        if (w <= MAX_SIDE && h <= MAX_SIDE) {
+            int[] cells = new int[w * h];
+            for (int y = 0; y < h; y++) System.arraycopy(grid, (minY + y) * width + minX, cells, y * w, w);
+            Recipe recipe = shaped.get(new GridKey(w, h, cells));
+            if (recipe != null) return recipe;
+        }
+
+        if (filled > MAX_CELLS || (mask & ~shapelessMasks[filled]) != 0) return null;
+        int[] ingredients = new int[filled];
+        int n = 0;
+        for (int i = 0; i < width * height; i++) if (grid[i] != EMPTY) ingredients[n++] = grid[i];
+        Arrays.sort(ingredients);
+        return shapeless.get(new GridKey(filled, 1, ingredients));
+    }
+
+    /// Matches a row-major grid of item names; null or empty strings are empty slots.
+    public Recipe match(int width, int height, String... grid) {
+        int[] ids = new int[grid.length];
+        for (int i = 0; i < grid.length; i++) {
+            ids[i] = itemId(grid[i]);
+            if (ids[i] < 0) return null;
+        }
+        return match(width, height, ids);
+    }
+
+    private GridKey compilePattern(String pattern, String keySpec) {
+        Map<Character, Integer> key = new HashMap<>();
+        for (String binding : keySpec.trim().split("[\\s,]+")) {
+            if (binding.isEmpty()) continue;
+            int eq = binding.indexOf('=');
+            if (eq != 1 || binding.length() < 3 || binding.charAt(0) == ' ') {
+                throw new IllegalArgumentException("bad key binding '" + binding + "' (want X=item)");
+            }
+            key.put(binding.charAt(0), intern(binding.substring(2)));
+        }
+        String[] rows = pattern.split("\\|", -1);
+        int width = 0;
+        for (String row : rows) width = Math.max(width, row.length());
+        int[] cells = new int[rows.length * width];
+        int minX = width, minY = rows.length, maxX = -1, maxY = -1;
+        for (int y = 0; y < rows.length; y++) {
+            for (int x = 0; x < rows[y].length(); x++) {
+                char c = rows[y].charAt(x);
+                if (c == ' ') continue;
+                Integer item = key.get(c);
+                if (item == null) throw new IllegalArgumentException("pattern symbol '" + c + "' has no key");
+                cells[y * width + x] = item;
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x);
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+            }
+        }
+        if (maxX < 0) throw new IllegalArgumentException("empty pattern");
+        int w = maxX - minX + 1, h = maxY - minY + 1;
+        if (w > MAX_SIDE || h > MAX_SIDE) {
+            throw new IllegalArgumentException("pattern " + w + "x" + h + " is larger than " + MAX_SIDE + "x" + MAX_SIDE);
+        }
+        int[] trimmed = new int[w * h];
+        for (int y = 0; y < h; y++) System.arraycopy(cells, (minY + y) * width + minX, trimmed, y * w, w);
+        return new GridKey(w, h, trimmed);
+    }
+
+    private GridKey compileIngredients(String spec) {
+        String[] names = spec.trim().split("[\\s,]+");
+        if (names.length == 0 || names[0].isEmpty()) throw new IllegalArgumentException("no ingredients");
+        if (names.length > MAX_CELLS) throw new IllegalArgumentException(names.length + " ingredients; at most " + MAX_CELLS);
+        int[] ids = new int[names.length];
+        for (int i = 0; i < names.length; i++) ids[i] = intern(names[i]);
+        Arrays.sort(ids);
+        return new GridKey(ids.length, 1, ids);
+    }
+
+    /// Indexes `recipe` under `key`, or queues it behind the recipe already there.
+    private void claim(Recipe recipe, GridKey key) {
+        Recipe existing = index(recipe.shaped()).putIfAbsent(key, recipe);
+        if (existing != null) {
+            error("Recipe %s has the same grid as %s — keeping %s", recipe.id(), existing.id(), existing.id());
+            waiting(recipe.shaped()).computeIfAbsent(key, k -> new ArrayList<>()).add(recipe);
+        } else if (!recipe.shaped()) {
+            updateMask(key, +1);
+        }
+    }
+
+    /// Puts `current` wherever `previous` held or waited for `key`.
+    private void replace(Recipe previous, Recipe current, GridKey key) {
+        if (index(current.shaped()).replace(key, previous, current)) return;
+        List<Recipe> queue = waiting(current.shaped()).get(key);
+        queue.set(queue.indexOf(previous), current);
+    }
+
+    /// Drops `recipe` from `key`; if it held the key, the next recipe waiting for it takes over.
+    private void release(Recipe recipe, GridKey key) {
+        Map<GridKey, List<Recipe>> waiting = waiting(recipe.shaped());
+        if (!index(recipe.shaped()).remove(key, recipe)) {
+            List<Recipe> queue = waiting.get(key);
+            if (queue != null && queue.remove(recipe) && queue.isEmpty()) waiting.remove(key);
+            return;
+        }
+        if (!recipe.shaped()) updateMask(key, -1);
+        List<Recipe> queue = waiting.get(key);
+        if (queue == null) return;
+        Recipe next = queue.removeFirst();
+        if (queue.isEmpty()) waiting.remove(key);
+        index(next.shaped()).put(key, next);
+        if (!next.shaped()) updateMask(key, +1);
+        info("Recipe %s now matches the grid %s had", next.id(), recipe.id());
+    }
+
+    private Map<GridKey, Recipe> index(boolean isShaped) {
+        return isShaped ? shaped : shapeless;
+    }
+
+    private Map<GridKey, List<Recipe>> waiting(boolean isShaped) {
+        return isShaped ? shapedWaiting : shapelessWaiting;
+    }
+
+    private void updateMask(GridKey key, int delta) {
+        int size = key.cells.length;
+        long bits = 0;
+        for (int id : key.cells) bits |= 1L << (id & 63);
+        int[] counts = maskBits[size];
+        long mask = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if ((bits & (1L << bit)) != 0) counts[bit] += delta;
+            if (counts[bit] > 0) mask |= 1L << bit;
+        }
+        long[] masks = shapelessMasks.clone();
+        masks[size] = mask;
+        shapelessMasks = masks;
+    }
+
+    private int intern(String item) {
+        // ids are never reused: a grid may still hold an id while a reload runs
+        return items.computeIfAbsent(itemName(item), k -> nextItem++);
+    }
+
+    /// `EMERALD` and `emerald` mean `minecraft:emerald`.
+    static String itemName(String item) {
+        if (item == null || item.isBlank()) throw new IllegalArgumentException("missing item");
+        String name = item.trim().toLowerCase(Locale.ROOT);
+        return name.indexOf(':') < 0 ? "minecraft:" + name : name;
+    }
+}
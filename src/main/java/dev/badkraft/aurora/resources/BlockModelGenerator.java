@@ -0,0 +1,233 @@
+/// src/main/java/dev/badkraft/aurora/resources/BlockModelGenerator.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.resources;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import dev.badkraft.aurora.install.HashCache;
+import dev.badkraft.aurora.mods.BlockDefinition;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.debug;
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Blockstate, block model and item definition JSON for every AML block,
+/// so a mod only ships its textures.
+///
+///   block := {
+///      name    := "titanium_ore"
+///      model   := "cube_all"                  // optional, vanilla parent
+///      texture := "badkraft:block/titanium_ore" // optional, defaults to the block's own
+///   }
+///
+/// Blocks whose model would be byte-identical share one model, emitted under
+/// a name the generator owns (`aurora:block/generated/<sha1>`) rather than
+/// under any one block's id — so the client bakes it once no matter how many
+/// ores reuse a texture, and a resource pack overriding one block's model
+/// doesn't re-skin the others. A block with a model of its own keeps
+/// `<modid>:block/<name>`. All JSON goes through Gson, so texture and model
+/// strings from a script are always escaped.
+/// Items use the 1.21.4+ `items/` definitions, which reference the block
+/// model directly instead of a per-item `models/item` parent stub.
+///
+/// Output is compared by SHA-1 against what is already on disk (through a
+/// [HashCache], so an unchanged file costs a `stat`) and only rewritten when
+/// it differs; files no longer produced are deleted. Writes are atomic, so
+/// [VirtualResourcePack] never sees a half-written JSON.
+public final class BlockModelGenerator {
+    static final String DEFAULT_MODEL = "minecraft:block/cube_all";
+    /// Texture variable each supported vanilla parent reads.
+    private static final Map<String, String> TEXTURE_SLOTS = Map.of(
+            "minecraft:block/cube_all", "all",
+            "minecraft:block/cube_mirrored_all", "all",
+            "minecraft:block/leaves", "all",
+            "minecraft:block/cross", "cross");
+    /// Resource location path segment; anything else would be rejected by the client anyway.
+    private static final Pattern NAME = Pattern.compile("[a-z0-9_.-]+");
+    /// Namespace of the shared models; block names never contain `/`, so no block file lands among them.
+    static final String SHARED_NAMESPACE = "aurora";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    /// What one pass did. `changed` lists every file written or deleted,
+    /// ready for [VirtualResourcePack#invalidate].
+    public record Result(int blocks, int models, int written, int unchanged, int deleted, Set<Path> changed) {}
+
+    private final Path root;
+    private final HashCache hashes;
+
+    /// `root` is an assets directory (`<root>/<modid>/blockstates/...`) owned by the generator.
+    public BlockModelGenerator(Path root, HashCache hashes) {
+        this.root = root;
+        this.hashes = hashes;
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    public synchronized Result generate(Collection<BlockDefinition> blocks) throws IOException {
+        Files.createDirectories(root);
+        Set<Path> emitted = new HashSet<>();
+        Set<Path> changed = new HashSet<>();
+        int[] counts = new int[2]; // written, unchanged
+
+        List<BlockDefinition> sorted = new ArrayList<>(blocks);
+        // stable output order, so logs and the hash cache see the same sequence each run
+        sorted.sort(Comparator.comparing(BlockDefinition::fullId));
+        // model body -> blocks rendering with it, in id order
+        Map<String, List<BlockDefinition>> bodies = new LinkedHashMap<>();
+        for (BlockDefinition block : sorted) {
+            if (!NAME.matcher(block.modid()).matches() || !NAME.matcher(block.name()).matches()) {
+                error("Skipping models for %s: not a valid resource location", block.fullId());
+                continue;
+            }
+            String parent = parent(block.properties().get("model"));
+            String slot = TEXTURE_SLOTS.get(parent);
+            if (slot == null) {
+                error("Skipping models for %s: unsupported model %s", block.fullId(), parent);
+                continue;
+            }
+            String texture = block.properties().getOrDefault("texture", block.modid() + ":block/" + block.name());
+            JsonObject textures = new JsonObject();
+            textures.addProperty(slot, texture);
+            JsonObject model = new JsonObject();
+            model.addProperty("parent", parent);
+            model.add("textures", textures);
+            bodies.computeIfAbsent(json(model), b -> new ArrayList<>()).add(block);
+        }
+
+        for (Map.Entry<String, List<BlockDefinition>> entry : bodies.entrySet()) {
+            String body = entry.getKey();
+            List<BlockDefinition> users = entry.getValue();
+            String model;
+            if (users.size() == 1) {
+                BlockDefinition block = users.getFirst();
+                model = block.modid() + ":block/" + block.name();
+                emit(file(block, "models/block"), body, emitted, changed, counts);
+            } else {
+                String sha1 = HashCache.hash(body.getBytes(StandardCharsets.UTF_8));
+                model = SHARED_NAMESPACE + ":block/generated/" + sha1;
+                emit(root.resolve(SHARED_NAMESPACE).resolve("models/block/generated").resolve(sha1 + ".json"),
+                        body, emitted, changed, counts);
+            }
+            for (BlockDefinition block : users) {
+                JsonObject variant = new JsonObject();
+                variant.addProperty("model", model);
+                JsonObject variants = new JsonObject();
+                variants.add("", variant);
+                JsonObject blockstate = new JsonObject();
+                blockstate.add("variants", variants);
+                emit(file(block, "blockstates"), json(blockstate), emitted, changed, counts);
+
+                JsonObject reference = new JsonObject();
+                reference.addProperty("type", "minecraft:model");
+                reference.addProperty("model", model);
+                JsonObject item = new JsonObject();
+                item.add("model", reference);
+                emit(file(block, "items"), json(item), emitted, changed, counts);
+            }
+        }
+
+        int deleted = prune(emitted, changed);
+        hashes.save();
+        Result result = new Result(sorted.size(), bodies.size(), counts[0], counts[1], deleted, Set.copyOf(changed));
+        info("Block models: %d block(s) -> %d model(s); %d written, %d unchanged, %d deleted",
+                result.blocks(), result.models(), result.written(), result.unchanged(), result.deleted());
+        return result;
+    }
+
+    /// `cube_all` and `block/cube_all` both mean `minecraft:block/cube_all`.
+    static String parent(String model) {
+        if (model == null || model.isBlank()) return DEFAULT_MODEL;
+        if (model.contains(":")) return model;
+        return "minecraft:" + (model.startsWith("block/") ? model : "block/" + model);
+    }
+
+    private static String json(JsonObject object) {
+        return GSON.toJson(object) + "\n";
+    }
+
+    private Path file(BlockDefinition block, String kind) {
+        return root.resolve(block.modid()).resolve(kind).resolve(block.name() + ".json");
+    }
+
+    private void emit(Path file, String content, Set<Path> emitted, Set<Path> changed, int[] counts) throws IOException {
+        emitted.add(file);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String sha1 = HashCache.hash(bytes);
+        if (Files.isRegularFile(file) && sha1.equals(hashes.sha1(file))) {
+            counts[1]++;
+            return;
+        }
+        write(file, bytes);
+        hashes.remember(file, sha1);
+        changed.add(file);
+        counts[0]++;
+    }
+
+    /// Deletes whatever an earlier pass produced that this one did not. Temp
+    /// files are left alone: they may be another process's write in flight.
+    private int prune(Set<Path> emitted, Set<Path> changed) throws IOException {
+        List<Path> stale;
+        try (Stream<Path> walk = Files.walk(root)) {
+            stale = walk.filter(Files::isRegularFile)
+                    .filter(p -> !emitted.contains(p) && !isTemp(p))
+                    .toList();
+        }
+        for (Path file : stale) {
+            Files.deleteIfExists(file);
+            changed.add(file);
+            debug("Removed stale generated asset %s", file);
+        }
+        return stale.size();
+    }
+
+    /// Named the way [#write] names its temp files.
+    private static boolean isTemp(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(".") && name.endsWith(".tmp");
+    }
+
+    private static void write(Path file, byte[] bytes) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "." + file.getFileName(), ".tmp");
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
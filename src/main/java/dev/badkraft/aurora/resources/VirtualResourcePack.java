@@ -0,0 +1,354 @@
+/// src/main/java/dev/badkraft/aurora/resources/VirtualResourcePack.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.resources;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.debug;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Every mod asset, served from one memory-mapped pack file.
+///
+/// [#build] walks the asset roots once, concatenates every file into a pack
+/// under the cache directory and maps it read-only. Lookups hash the pack
+/// path (`assets/badkraft/models/block/titanium_ore.json`) into an
+/// open-addressed table and return a slice of the mapping — no `stat`, no
+/// `open`, no copy. Resource reloads that would otherwise touch thousands of
+/// loose files hit page cache instead. The pack ends with its own table of
+/// contents, so other processes can [#map] it as is — the instances of a
+/// multi-instance launch share the one copy the launcher built.
+///
+/// Roots are stacked: a later root's file replaces an earlier root's file at
+/// the same pack path, the way resource packs override one another.
+///
+/// [#invalidate] takes the paths [dev.badkraft.aurora.mods.HotReloadManager]
+/// reports and overlays the new contents (or a deletion) on the mapped pack
+/// until the next [#build]. Readers never block: the pack is an immutable
+/// snapshot swapped on rebuild, and the overlay is a concurrent map.
+public final class VirtualResourcePack {
+    private static final VirtualResourcePack INSTANCE = new VirtualResourcePack();
+    /// Overlay marker for a file deleted since the pack was built.
+    private static final byte[] DELETED = new byte[0];
+    /// Last four bytes of a pack, after the table of contents and its offset.
+    private static final int MAGIC = 0x41525050; // "ARPP"
+    private static final int TRAILER = Long.BYTES + Integer.BYTES;
+
+    /// A directory of assets and the pack path its contents appear under,
+    /// e.g. `(aurora/assets, "assets/")` maps `badkraft/…` to `assets/badkraft/…`.
+    public record Root(Path dir, String prefix) {}
+
+    /// Immutable index over one mapped pack file.
+    private record Snapshot(
+            MappedByteBuffer data,
+            String[] paths,      // sorted
+            int[] offsets,
+            int[] lengths,
+            long[] tableKeys,    // open addressing, 0 = empty
+            int[] tableValues) {
+
+        static final Snapshot EMPTY = new Snapshot(null, new String[0], new int[0], new int[0], new long[1], new int[1]);
+
+        int find(String path) {
+            long hash = hash(path);
+            int mask = tableKeys.length - 1;
+            for (int slot = (int) hash & mask; tableKeys[slot] != 0; slot = (slot + 1) & mask) {
+                if (tableKeys[slot] == hash && paths[tableValues[slot]].equals(path)) return tableValues[slot];
+            }
+            return -1;
+        }
+
+        ByteBuffer slice(int entry) {
+            return data.slice(offsets[entry], lengths[entry]).asReadOnlyBuffer();
+        }
+    }
+
+    private final Map<String, byte[]> overlay = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile List<Root> roots = List.of();
+
+    private VirtualResourcePack() {}
+
+    public static VirtualResourcePack get() {
+        return INSTANCE;
+    }
+
+    /// Indexes every regular file under `roots` into the pack at `packFile`,
+    /// replacing the previous pack and discarding the overlay.
+    public synchronized void build(List<Root> roots, Path packFile) throws IOException {
+        long start = System.nanoTime();
+        // later roots win
+        TreeMap<String, Path> files = new TreeMap<>();
+        for (Root root : roots) {
+            if (!Files.isDirectory(root.dir())) continue;
+            try (Stream<Path> walk = Files.walk(root.dir())) {
+                walk.filter(Files::isRegularFile).forEach(file -> files.put(packPath(root, file), file));
+            }
+        }
+
+        int n = files.size();
+        String[] paths = new String[n];
+        int[] offsets = new int[n];
+        int[] lengths = new int[n];
+        Files.createDirectories(packFile.getParent());
+        Path temp = Files.createTempFile(packFile.getParent(), "." + packFile.getFileName(), ".tmp");
+        try {
+            long offset = 0;
+            int i = 0;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                for (Map.Entry<String, Path> e : files.entrySet()) {
+                    long length = Files.copy(e.getValue(), out);
+                    if (offset + length > Integer.MAX_VALUE) {
+                        throw new IOException("Mod assets exceed 2GB; cannot map as one pack");
+                    }
+                    paths[i] = e.getKey();
+                    offsets[i] = (int) offset;
+                    lengths[i] = (int) length;
+                    offset += length;
+                    i++;
+                }
+                out.writeInt(n);
+                for (int j = 0; j < n; j++) {
+                    out.writeUTF(paths[j]);
+                    out.writeInt(offsets[j]);
+                    out.writeInt(lengths[j]);
+                }
+                out.writeLong(offset);
+                out.writeInt(MAGIC);
+            }
+            try {
+                Files.move(temp, packFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, packFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        Snapshot built = open(packFile);
+        this.roots = List.copyOf(roots);
+        this.snapshot = built;
+        overlay.clear();
+        info("Virtual resource pack: %d assets, %d KB, indexed in %dms",
+                n, built.data().capacity() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /// Maps a pack [#build] already wrote from the same `roots`, without
+    /// rewriting it, and discards the overlay. `roots` only serve [#invalidate].
+    public synchronized void map(List<Root> roots, Path packFile) throws IOException {
+        long start = System.nanoTime();
+        Snapshot mapped = open(packFile);
+        this.roots = List.copyOf(roots);
+        this.snapshot = mapped;
+        overlay.clear();
+        info("Virtual resource pack: mapped %d assets from %s in %dms",
+                mapped.paths().length, packFile, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /// The contents of `path` as a read-only buffer, or null if the pack has no such asset.
+    public ByteBuffer resource(String path) {
+        byte[] changed = overlay.get(path);
+        if (changed != null) return changed == DELETED ? null : ByteBuffer.wrap(changed).asReadOnlyBuffer();
+        Snapshot current = snapshot;
+        int entry = current.find(path);
+        return entry < 0 ? null : current.slice(entry);
+    }
+
+    public boolean has(String path) {
+        return resource(path) != null;
+    }
+
+    /// Opens `path` as a stream, or null if absent.
+    public InputStream open(String path) {
+        ByteBuffer buffer = resource(path);
+        if (buffer == null) return null;
+        if (buffer.hasArray()) {
+            return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset(), buffer.remaining());
+        }
+        return new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (!buffer.hasRemaining()) return -1;
+                int count = Math.min(len, buffer.remaining());
+                buffer.get(b, off, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return buffer.remaining();
+            }
+        };
+    }
+
+    /// Every pack path starting with `prefix`, sorted — e.g. `assets/badkraft/blockstates/`.
+    public List<String> list(String prefix) {
+        Snapshot current = snapshot;
+        String[] paths = current.paths();
+        int from = Arrays.binarySearch(paths, prefix);
+        if (from < 0) from = -from - 1;
+        TreeSet<String> result = new TreeSet<>();
+        for (int i = from; i < paths.length && paths[i].startsWith(prefix); i++) {
+            result.add(paths[i]);
+        }
+        for (Map.Entry<String, byte[]> e : overlay.entrySet()) {
+            if (!e.getKey().startsWith(prefix)) continue;
+            if (e.getValue() == DELETED) result.remove(e.getKey());
+            else result.add(e.getKey());
+        }
+        return new ArrayList<>(result);
+    }
+
+    public int size() {
+        return snapshot.paths().length;
+    }
+
+    /// Re-reads changed files (or records them as deleted) on top of the mapped pack.
+    /// Paths outside every root are ignored.
+    public void invalidate(Set<Path> changed) {
+        List<Root> current = roots;
+        int applied = 0;
+        for (Path file : changed) {
+            Root root = owner(current, file);
+            if (root == null) continue;
+            String path = packPath(root, file);
+            if (shadowed(current, root, path)) continue;
+            // a deletion uncovers whatever an earlier root has at the same path
+            Path source = Files.isRegularFile(file) ? file : underneath(current, root, path);
+            try {
+                overlay.put(path, source != null ? Files.readAllBytes(source) : DELETED);
+                applied++;
+            } catch (IOException e) {
+                overlay.put(path, DELETED);
+            }
+        }
+        if (applied > 0) debug("Virtual resource pack: %d asset(s) invalidated", applied);
+    }
+
+    // ---------------------------------------------------------------------
+
+    /// Maps `packFile` and indexes it from its table of contents.
+    private static Snapshot open(Path packFile) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(packFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) throw new IOException("Asset pack exceeds 2GB: " + packFile);
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int end = data.capacity() - TRAILER;
+        if (end < 0 || data.getInt(end + Long.BYTES) != MAGIC) {
+            throw new IOException("Not an asset pack (or one from an older version): " + packFile);
+        }
+        int contents = (int) data.getLong(end);
+        byte[] toc = new byte[end - contents];
+        data.get(contents, toc);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(toc));
+        int n = in.readInt();
+        String[] paths = new String[n];
+        int[] offsets = new int[n];
+        int[] lengths = new int[n];
+        for (int i = 0; i < n; i++) {
+            paths[i] = in.readUTF();
+            offsets[i] = in.readInt();
+            lengths[i] = in.readInt();
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(2, n * 2 - 1)) << 1;
+        long[] keys = new long[capacity];
+        int[] values = new int[capacity];
+        for (int i = 0; i < n; i++) {
+            long hash = hash(paths[i]);
+            int slot = (int) hash & (capacity - 1);
+            while (keys[slot] != 0) slot = (slot + 1) & (capacity - 1);
+            keys[slot] = hash;
+            values[slot] = i;
+        }
+        return new Snapshot(data, paths, offsets, lengths, keys, values);
+    }
+
+    private static Root owner(List<Root> roots, Path file) {
+        Path absolute = file.toAbsolutePath().normalize();
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            if (absolute.startsWith(roots.get(i).dir().toAbsolutePath().normalize())) return roots.get(i);
+        }
+        return null;
+    }
+
+    /// True if a later root also provides `path`, so a change here is invisible.
+    private static boolean shadowed(List<Root> roots, Root root, String path) {
+        for (int i = roots.indexOf(root) + 1; i < roots.size(); i++) {
+            Root later = roots.get(i);
+            if (path.startsWith(later.prefix())
+                    && Files.isRegularFile(later.dir().resolve(path.substring(later.prefix().length())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path underneath(List<Root> roots, Root root, String path) {
+        for (int i = roots.indexOf(root) - 1; i >= 0; i--) {
+            Root earlier = roots.get(i);
+            if (!path.startsWith(earlier.prefix())) continue;
+            Path file = earlier.dir().resolve(path.substring(earlier.prefix().length()));
+            if (Files.isRegularFile(file)) return file;
+        }
+        return null;
+    }
+
+    private static String packPath(Root root, Path file) {
+        Path relative = root.dir().toAbsolutePath().normalize().relativize(file.toAbsolutePath().normalize());
+        StringBuilder path = new StringBuilder(root.prefix());
+        for (int i = 0; i < relative.getNameCount(); i++) {
+            if (i > 0) path.append('/');
+            path.append(relative.getName(i));
+        }
+        return path.toString();
+    }
+
+    /// 64-bit FNV-1a over the UTF-16 code units; never 0, which marks an empty slot.
+    static long hash(String path) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < path.length(); i++) {
+            h ^= path.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h == 0 ? 1 : h;
+    }
+}
@@ -0,0 +1,344 @@
+/// src/main/java/dev/badkraft/aurora/schedule/TickScheduler.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.schedule;
+
+import dev.badkraft.aurora.profiling.ModProfiler;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.error;
+
+/// Tick-driven timer service behind `schedule_timer(20, -> {...})`.
+///
+/// A hierarchical timing wheel: [#LEVELS] wheels of 64 slots, each slot an
+/// intrusive doubly-linked list of tasks. Level 0 holds tasks due within 64
+/// ticks, level 1 within 64², and so on; when a lower wheel wraps, the next
+/// slot of the wheel above is cascaded down. Scheduling and cancelling are
+/// O(1) however many timers are pending, and a tick only touches the slot
+/// that is due.
+///
+/// [#tick()] is called once per server tick by the agent's tick hook
+/// ([dev.badkraft.aurora.agent.TickProbe]); without the agent or the mappings
+/// that place it, timers never come due. The wheel itself is confined to the
+/// thread calling [#tick()] (the server thread). Other threads — including the launcher before the first tick —
+/// hand new tasks over through a queue that is drained at the start of the
+/// next tick, and cancellation is a flag checked when the task comes due.
+///
+/// Every task belongs to a mod. [#cancelAll(String)] retires the mod's
+/// current generation in O(1) so a hot reload can drop all of its timers
+/// without walking the wheel.
+public final class TickScheduler {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    static final int LEVELS = 4;  // 2^24 ticks ≈ 9.7 days at 20 TPS before the overflow list
+
+    private static final TickScheduler INSTANCE = new TickScheduler();
+
+    private final Task[][] wheels = new Task[LEVELS][SLOTS];
+    private Task overflow;
+    private final Queue<Task> incoming = new ConcurrentLinkedQueue<>();
+    private final Map<String, Owner> owners = new ConcurrentHashMap<>();
+    private volatile ExecutorService asyncExecutor;
+    private volatile Thread tickThread;
+    private long now;
+    private int pending;
+
+    private TickScheduler() {}
+
+    public static TickScheduler get() {
+        return INSTANCE;
+    }
+
+    /// A mod's current generation of tasks; retired as a whole by `cancelAll`.
+    private static final class Owner {
+        final String id;
+        final ModProfiler.ModAccount account;
+        volatile boolean retired;
+
+        Owner(String id) {
+            this.id = id;
+            this.account = ModProfiler.account(id);
+        }
+    }
+
+    public static final class Task {
+        private static final VarHandle CANCELLED;
+
+        static {
+            try {
+                CANCELLED = MethodHandles.lookup().findVarHandle(Task.class, "cancelled", boolean.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final TickScheduler scheduler;
+        private final Owner owner;
+        private final Runnable action;
+        private final long delay;
+        private final long period;   // 0 = one-shot
+        private final boolean async;
+        private volatile boolean cancelled;
+
+        // wheel state, touched only by the tick thread
+        private long deadline;
+        private Task prev, next;
+        private Task[] wheel;      // null while linked means the overflow list
+        private int slot;
+        private boolean linked;
+
+        private Task(TickScheduler scheduler, Owner owner, Runnable action, long delay, long period, boolean async) {
+            this.scheduler = scheduler;
+            this.owner = owner;
+            this.action = action;
+            this.delay = delay;
+            this.period = period;
+            this.async = async;
+        }
+
+        public String owner() {
+            return owner.id;
+        }
+
+        public boolean isRepeating() {
+            return period > 0;
+        }
+
+        public boolean isCancelled() {
+            return cancelled || owner.retired;
+        }
+
+        /// Cancels the task; safe from any thread. Returns false if it was already cancelled.
+        public boolean cancel() {
+            if (!CANCELLED.compareAndSet(this, false, true)) return false;
+            if (Thread.currentThread() == scheduler.tickThread && linked) {
+                scheduler.unlink(this);
+            }
+            return true;
+        }
+    }
+
+    /// Runs `action` once, `delay` ticks from now (minimum 1).
+    public Task schedule(String owner, long delay, Runnable action) {
+        return submit(owner, delay, 0, false, action);
+    }
+
+    /// Runs `action` every `period` ticks, starting `delay` ticks from now.
+    public Task scheduleRepeating(String owner, long delay, long period, Runnable action) {
+        if (period <= 0) throw new IllegalArgumentException("period must be positive: " + period);
+        return submit(owner, delay, period, false, action);
+    }
+
+    /// Like [#schedule], but the action runs on a virtual thread instead of the
+    /// game thread. Only for work that doesn't touch world state (I/O, HTTP, maths).
+    public Task scheduleAsync(String owner, long delay, Runnable action) {
+        return submit(owner, delay, 0, true, action);
+    }
+
+    public Task scheduleRepeatingAsync(String owner, long delay, long period, Runnable action) {
+        if (period <= 0) throw new IllegalArgumentException("period must be positive: " + period);
+        return submit(owner, delay, period, true, action);
+    }
+
+    /// Cancels every task `owner` has scheduled so far. Tasks scheduled afterwards run normally.
+    public void cancelAll(String owner) {
+        Owner retired = owners.remove(owner);
+        if (retired != null) retired.retired = true;
+    }
+
+    public long currentTick() {
+        return now;
+    }
+
+    /// Tasks in the wheel (not counting ones handed over since the last tick).
+    public int pending() {
+        return pending;
+    }
+
+    /// Advances the wheel by one tick and runs everything that came due.
+    /// Must always be called from the same (game) thread.
+    public void tick() {
+        Thread current = Thread.currentThread();
+        if (tickThread != current) {
+            // a new server thread (singleplayer reopening a world) takes over once the old one is gone
+            if (tickThread != null && tickThread.isAlive()) {
+                throw new IllegalStateException("TickScheduler ticked from " + current.getName()
+                        + " but owned by " + tickThread.getName());
+            }
+            tickThread = current;
+        }
+
+        Task task;
+        while ((task = incoming.poll()) != null) {
+            task.deadline = now + task.delay;
+            place(task);
+        }
+
+        now++;
+        int index = (int) (now & MASK);
+        if (index == 0) cascade(1);
+
+        Task head = detach(wheels[0], index);
+        while (head != null) {
+            Task next = head.next;
+            release(head);
+            run(head);
+            head = next;
+        }
+    }
+
+    public void shutdown() {
+        ExecutorService executor = asyncExecutor;
+        if (executor != null) executor.shutdown();
+    }
+
+    private Task submit(String ownerId, long delay, long period, boolean async, Runnable action) {
+        Owner owner = owners.computeIfAbsent(ownerId, Owner::new);
+        Task task = new Task(this, owner, action, Math.max(1, delay), period, async);
+        if (Thread.currentThread() == tickThread) {
+            task.deadline = now + task.delay;
+            place(task);
+        } else {
+            incoming.add(task);
+        }
+        return task;
+    }
+
+    private void run(Task task) {
+        if (task.isCancelled()) return;
+        if (task.async) {
+            asyncExecutor().execute(() -> invoke(task));
+        } else {
+            invoke(task);
+        }
+        if (task.period > 0 && !task.isCancelled()) {
+            task.deadline = now + task.period;
+            place(task);
+        }
+    }
+
+    private static void invoke(Task task) {
+        ModProfiler.enter(task.owner.account);
+        try {
+            task.action.run();
+        } catch (Throwable t) {
+            error("Timer task of '%s' failed: %s", task.owner.id, t);
+        } finally {
+            ModProfiler.exit();
+        }
+    }
+
+    private void place(Task task) {
+        long delta = task.deadline - now;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (BITS * (level + 1))) {
+                int index = (int) ((task.deadline >>> (BITS * level)) & MASK);
+                link(task, wheels[level], index);
+                return;
+            }
+        }
+        link(task, null, -1);
+    }
+
+    private void cascade(int level) {
+        Task head;
+        if (level == LEVELS) {
+            head = offWheel(overflow);
+            overflow = null;
+        } else {
+            int index = (int) ((now >>> (BITS * level)) & MASK);
+            if (index == 0) cascade(level + 1);
+            head = detach(wheels[level], index);
+        }
+        while (head != null) {
+            Task next = head.next;
+            release(head);
+            // dead tasks are dropped here instead of being carried down
+            if (!head.isCancelled()) place(head);
+            head = next;
+        }
+    }
+
+    private void link(Task task, Task[] wheel, int index) {
+        Task head = wheel != null ? wheel[index] : overflow;
+        task.next = head;
+        if (head != null) head.prev = task;
+        if (wheel != null) wheel[index] = task;
+        else overflow = task;
+        task.wheel = wheel;
+        task.slot = index;
+        task.linked = true;
+        pending++;
+    }
+
+    private void unlink(Task task) {
+        if (task.prev != null) task.prev.next = task.next;
+        else if (task.wheel == null) overflow = task.next;
+        else task.wheel[task.slot] = task.next;
+        if (task.next != null) task.next.prev = task.prev;
+        release(task);
+    }
+
+    private static Task detach(Task[] wheel, int index) {
+        Task head = wheel[index];
+        wheel[index] = null;
+        return offWheel(head);
+    }
+
+    /// Marks a detached chain as no longer linked before any of it runs, so a
+    /// task cancelling a later one in the same chain only sets its flag instead
+    /// of unlinking it from under the loop walking the chain.
+    private static Task offWheel(Task head) {
+        for (Task t = head; t != null; t = t.next) t.linked = false;
+        return head;
+    }
+
+    private void release(Task task) {
+        task.prev = task.next = null;
+        task.wheel = null;
+        task.linked = false;
+        pending--;
+    }
+
+    private ExecutorService asyncExecutor() {
+        ExecutorService executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = asyncExecutor;
+                if (executor == null) {
+                    executor = Executors.newVirtualThreadPerTaskExecutor();
+                    asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,57 @@
+/// src/main/java/dev/badkraft/aurora/script/CompiledHandler.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.script;
+
+import dev.badkraft.aurora.event.AuroraEvent;
+import dev.badkraft.aurora.event.EventListener;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/// Template for compiled event handlers — never loaded as-is.
+/// [ScriptCompiler] defines a hidden copy of these bytes per handler with the
+/// compiled body as class data, so `BODY` is a trusted constant the JIT
+/// inlines straight into `handle`.
+final class CompiledHandler implements EventListener<AuroraEvent> {
+    private static final MethodHandle BODY;
+
+    static {
+        try {
+            BODY = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] globals;
+
+    CompiledHandler(Object[] globals) {
+        this.globals = globals;
+    }
+
+    @Override
+    public void handle(AuroraEvent event) throws Throwable {
+        BODY.invokeExact(globals, event, (Object[]) null);
+    }
+}
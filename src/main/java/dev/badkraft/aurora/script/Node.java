@@ -0,0 +1,88 @@
+/// src/main/java/dev/badkraft/aurora/script/Node.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.script;
+
+import java.util.List;
+
+/// Handler bodies as the compiler sees them — the tree a front end builds
+/// from an Aurora script once it has been parsed.
+///
+///   on_block_placed {
+///       if event.block == my_block {
+///           schedule_timer(20, -> { explode(event.x, event.y, event.z, 3.0) })
+///       }
+///   }
+///
+/// becomes
+///
+///   If(Call("==", EventField("block"), Var("my_block")),
+///      Eval(Call("schedule_timer", Const(20), Lambda(Eval(Call("explode", ...))))),
+///      null)
+public sealed interface Node {
+
+    // -- expressions -------------------------------------------------------
+
+    record Const(Object value) implements Node {}
+
+    /// A module-level variable (`let` in `on_initialize`, loop variables).
+    record Var(String name) implements Node {}
+
+    /// `event.<name>` — resolved against the accessor of the handler's event type.
+    record EventField(String name) implements Node {}
+
+    /// A script function or, for dotted names (`Block.setHardness`), a mapped
+    /// Minecraft method from the [dev.badkraft.aurora.mapping.ReflectionMapper] cache.
+    record Call(String function, List<Node> args) implements Node {
+        public Call(String function, Node... args) {
+            this(function, List.of(args));
+        }
+    }
+
+    /// `-> { ... }` — evaluates to a `Runnable`. Event fields used inside are
+    /// captured when the lambda is created, since the event itself is pooled.
+    record Lambda(Node body) implements Node {}
+
+    record And(Node left, Node right) implements Node {}
+
+    record Or(Node left, Node right) implements Node {}
+
+    record Not(Node operand) implements Node {}
+
+    // -- statements --------------------------------------------------------
+
+    record Let(String name, Node value) implements Node {}
+
+    /// `otherwise` may be null.
+    record If(Node condition, Node then, Node otherwise) implements Node {}
+
+    record Seq(List<Node> statements) implements Node {
+        public Seq(Node... statements) {
+            this(List.of(statements));
+        }
+    }
+
+    record ForEach(String variable, Node iterable, Node body) implements Node {}
+
+    /// An expression evaluated for its side effects.
+    record Eval(Node expression) implements Node {}
+}
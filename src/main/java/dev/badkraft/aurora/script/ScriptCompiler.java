@@ -0,0 +1,347 @@
+/// src/main/java/dev/badkraft/aurora/script/ScriptCompiler.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.script;
+
+import dev.badkraft.aurora.event.*;
+import dev.badkraft.aurora.event.EventListener;
+import dev.badkraft.aurora.profiling.ModProfiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.debug;
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Compiles script handlers to JVM code instead of walking their trees at runtime.
+///
+/// Each [Node] is lowered to a method handle over one fixed environment —
+/// `(Object[] globals, AuroraEvent event, Object[] captures)` — and composed
+/// with the `MethodHandles` combinators: `guardWithTest` for `if`,
+/// `foldArguments` for sequencing, `iteratedLoop` for `for`. Calls are linked
+/// once, at compile time, through [ScriptFunctions] and the mapping layer.
+///
+/// Every handler, lambda and initializer body then becomes the class data of
+/// its own hidden class (see [CompiledHandler]), so the JIT sees the composed
+/// handle as a constant and compiles the whole body as ordinary code.
+public final class ScriptCompiler {
+    private static final Class<?>[] ENV = {Object[].class, AuroraEvent.class, Object[].class};
+    private static final MethodType EXPR = MethodType.methodType(Object.class, ENV);
+    private static final MethodType STMT = MethodType.methodType(void.class, ENV);
+
+    private static final Map<String, Class<? extends AuroraEvent>> EVENTS = Map.of(
+            "on_player_interact", PlayerInteractEvent.class,
+            "on_block_placed", BlockPlacedEvent.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle TRUTHY;
+    private static final MethodHandle NOT;
+    private static final MethodHandle ITERATOR;
+    private static final byte[] HANDLER_TEMPLATE = template("CompiledHandler.class");
+    private static final byte[] TASK_TEMPLATE = template("CompiledTask.class");
+
+    static {
+        try {
+            TRUTHY = LOOKUP.findStatic(ScriptCompiler.class, "truthy", MethodType.methodType(boolean.class, Object.class));
+            NOT = LOOKUP.findStatic(ScriptCompiler.class, "not", MethodType.methodType(Object.class, Object.class));
+            ITERATOR = LOOKUP.findStatic(ScriptCompiler.class, "iterator", MethodType.methodType(Iterator.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /// A script as the front end hands it over. `initializer` may be null.
+    public record ScriptSource(String modid, Node initializer, Map<String, Node> handlers) {}
+
+    /// The compiled form, ready to run and register.
+    public static final class CompiledScript {
+        private final ScriptModule module;
+        private final Runnable initializer;
+        private final Map<Class<? extends AuroraEvent>, List<EventListener<AuroraEvent>>> handlers;
+
+        private CompiledScript(ScriptModule module, Runnable initializer,
+                               Map<Class<? extends AuroraEvent>, List<EventListener<AuroraEvent>>> handlers) {
+            this.module = module;
+            this.initializer = initializer;
+            this.handlers = handlers;
+        }
+
+        public ScriptModule module() {
+            return module;
+        }
+
+        /// Runs `on_initialize` and registers the event handlers under the mod's id.
+        public List<EventBus.Registration> install(EventBus bus) {
+            if (initializer != null) {
+                ModProfiler.enter(ModProfiler.account(module.modid()));
+                try {
+                    initializer.run();
+                } finally {
+                    ModProfiler.exit();
+                }
+            }
+            List<EventBus.Registration> registrations = new ArrayList<>();
+            handlers.forEach((type, listeners) -> {
+                for (EventListener<AuroraEvent> listener : listeners) {
+                    registrations.add(register(bus, type, listener));
+                }
+            });
+            return registrations;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private EventBus.Registration register(EventBus bus, Class type, EventListener listener) {
+            return bus.register(type, listener, EventPriority.NORMAL, module.modid());
+        }
+    }
+
+    private ScriptCompiler() {}
+
+    public static CompiledScript compile(ScriptSource source) {
+        long start = System.nanoTime();
+        ScriptModule module = new ScriptModule(source.modid());
+
+        // lower every body first: variables discovered along the way may still grow the globals array
+        MethodHandle init = source.initializer() != null
+                ? stmt(source.initializer(), new Scope(module, null, null))
+                : null;
+        Map<Class<? extends AuroraEvent>, List<MethodHandle>> bodies = new LinkedHashMap<>();
+        source.handlers().forEach((name, body) -> {
+            Class<? extends AuroraEvent> type = EVENTS.get(name);
+            if (type == null) {
+                throw new IllegalStateException("Unknown event '" + name + "' in mod " + module.modid());
+            }
+            bodies.computeIfAbsent(type, t -> new ArrayList<>()).add(stmt(body, new Scope(module, type, null)));
+        });
+
+        try {
+            Object[] globals = module.globals();
+            Runnable initializer = init != null ? (Runnable) taskFactory(init).invoke(globals, (Object[]) null) : null;
+            Map<Class<? extends AuroraEvent>, List<EventListener<AuroraEvent>>> handlers = new LinkedHashMap<>();
+            for (var entry : bodies.entrySet()) {
+                List<EventListener<AuroraEvent>> listeners = new ArrayList<>();
+                for (MethodHandle body : entry.getValue()) {
+                    listeners.add(defineHandler(body, globals));
+                }
+                handlers.put(entry.getKey(), listeners);
+            }
+            info("Compiled script %s: %d handler(s) in %dms", module.modid(),
+                    handlers.values().stream().mapToInt(List::size).sum(), (System.nanoTime() - start) / 1_000_000);
+            return new CompiledScript(module, initializer, handlers);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to define compiled script " + module.modid(), t);
+        }
+    }
+
+    /// Compilation scope: the handler's event type (null in `on_initialize`) and,
+    /// inside a lambda, the event fields it captures, in capture-slot order.
+    private record Scope(ScriptModule module, Class<? extends AuroraEvent> eventType, Map<String, Integer> captures) {}
+
+    // -- statements: (ENV)void --------------------------------------------
+
+    private static MethodHandle stmt(Node node, Scope scope) {
+        return switch (node) {
+            case Node.Eval eval -> MethodHandles.dropReturn(expr(eval.expression(), scope));
+            case Node.Let let -> {
+                MethodHandle setter = MethodHandles.insertArguments(
+                        MethodHandles.arrayElementSetter(Object[].class), 1, scope.module().slot(let.name()));
+                // (Object[] globals, Object value) <- value computed from the environment
+                MethodHandle store = MethodHandles.collectArguments(setter, 1, expr(let.value(), scope));
+                yield MethodHandles.permuteArguments(store, STMT, 0, 0, 1, 2);
+            }
+            case Node.If branch -> MethodHandles.guardWithTest(
+                    test(branch.condition(), scope),
+                    stmt(branch.then(), scope),
+                    branch.otherwise() != null ? stmt(branch.otherwise(), scope) : MethodHandles.empty(STMT));
+            case Node.Seq seq -> {
+                List<Node> statements = seq.statements();
+                if (statements.isEmpty()) yield MethodHandles.empty(STMT);
+                MethodHandle result = stmt(statements.getLast(), scope);
+                for (int i = statements.size() - 2; i >= 0; i--) {
+                    result = MethodHandles.foldArguments(result, stmt(statements.get(i), scope));
+                }
+                yield result;
+            }
+            case Node.ForEach loop -> {
+                MethodHandle setter = MethodHandles.insertArguments(
+                        MethodHandles.arrayElementSetter(Object[].class), 1, scope.module().slot(loop.variable()));
+                // (Object element, ENV) -> globals[slot] = element; body(ENV)
+                MethodHandle assign = MethodHandles.permuteArguments(setter,
+                        STMT.insertParameterTypes(0, Object.class), 1, 0);
+                MethodHandle body = MethodHandles.foldArguments(
+                        MethodHandles.dropArguments(stmt(loop.body(), scope), 0, Object.class), assign);
+                MethodHandle iterator = MethodHandles.filterReturnValue(expr(loop.iterable(), scope), ITERATOR);
+                yield MethodHandles.iteratedLoop(iterator, null, body);
+            }
+            default -> MethodHandles.dropReturn(expr(node, scope));
+        };
+    }
+
+    // -- expressions: (ENV)Object -----------------------------------------
+
+    private static MethodHandle expr(Node node, Scope scope) {
+        return switch (node) {
+            case Node.Const c -> MethodHandles.dropArguments(MethodHandles.constant(Object.class, c.value()), 0, ENV);
+            case Node.Var var -> {
+                MethodHandle getter = MethodHandles.insertArguments(
+                        MethodHandles.arrayElementGetter(Object[].class), 1, scope.module().slot(var.name()));
+                yield MethodHandles.dropArguments(getter, 1, AuroraEvent.class, Object[].class);
+            }
+            case Node.EventField field -> eventField(field.name(), scope);
+            case Node.Call call -> {
+                MethodHandle function = ScriptFunctions.resolve(call.function(), scope.module());
+                int arity = call.args().size();
+                if (function.type().parameterCount() != arity) {
+                    throw new IllegalStateException("%s expects %d argument(s), got %d in mod %s".formatted(
+                            call.function(), function.type().parameterCount(), arity, scope.module().modid()));
+                }
+                List<MethodHandle> args = new ArrayList<>(arity);
+                for (Node arg : call.args()) args.add(expr(arg, scope));
+                yield combine(function.asType(MethodType.genericMethodType(arity)), args);
+            }
+            case Node.Lambda lambda -> lambda(lambda, scope);
+            case Node.And and -> MethodHandles.guardWithTest(test(and.left(), scope),
+                    bool(and.right(), scope), constant(Boolean.FALSE));
+            case Node.Or or -> MethodHandles.guardWithTest(test(or.left(), scope),
+                    constant(Boolean.TRUE), bool(or.right(), scope));
+            case Node.Not not -> MethodHandles.filterReturnValue(expr(not.operand(), scope), NOT);
+            default -> throw new IllegalStateException(
+                    node.getClass().getSimpleName() + " is a statement, not an expression, in mod " + scope.module().modid());
+        };
+    }
+
+    private static MethodHandle eventField(String name, Scope scope) {
+        if (scope.captures() != null) {
+            int slot = scope.captures().computeIfAbsent(name, n -> scope.captures().size());
+            MethodHandle getter = MethodHandles.insertArguments(
+                    MethodHandles.arrayElementGetter(Object[].class), 1, slot);
+            return MethodHandles.dropArguments(getter, 0, Object[].class, AuroraEvent.class);
+        }
+        if (scope.eventType() == null) {
+            throw new IllegalStateException("event." + name + " used outside an event handler in mod " + scope.module().modid());
+        }
+        try {
+            Method accessor = scope.eventType().getMethod(name);
+            MethodHandle getter = LOOKUP.unreflect(accessor).asType(MethodType.methodType(Object.class, AuroraEvent.class));
+            return MethodHandles.dropArguments(MethodHandles.dropArguments(getter, 0, Object[].class), 2, Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(scope.eventType().getSimpleName() + " has no field '" + name + "'", e);
+        }
+    }
+
+    private static MethodHandle lambda(Node.Lambda lambda, Scope scope) {
+        Map<String, Integer> captures = new LinkedHashMap<>();
+        MethodHandle body = stmt(lambda.body(), new Scope(scope.module(), scope.eventType(), captures));
+
+        // copy what the body reads off the event into a fresh array each time the lambda is created
+        List<MethodHandle> fields = new ArrayList<>();
+        for (String name : captures.keySet()) fields.add(eventField(name, scope));
+        MethodHandle capture = fields.isEmpty()
+                ? MethodHandles.dropArguments(MethodHandles.constant(Object[].class, null), 0, ENV)
+                : combine(MethodHandles.identity(Object[].class).asCollector(Object[].class, fields.size()), fields);
+
+        try {
+            MethodHandle factory = taskFactory(body).asType(MethodType.methodType(Object.class, Object[].class, Object[].class));
+            MethodHandle create = MethodHandles.collectArguments(factory, 1, capture);
+            return MethodHandles.permuteArguments(create, EXPR, 0, 0, 1, 2);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to define lambda in mod " + scope.module().modid(), e);
+        }
+    }
+
+    /// Calls `function` with each argument computed from the environment:
+    /// `(ENV)R` from `(A1..An)R` and n handles of shape `(ENV)Ai`.
+    private static MethodHandle combine(MethodHandle function, List<MethodHandle> args) {
+        if (args.isEmpty()) return MethodHandles.dropArguments(function, 0, ENV);
+        MethodHandle result = function;
+        for (int i = args.size() - 1; i >= 0; i--) {
+            result = MethodHandles.collectArguments(result, i, args.get(i));
+        }
+        // (ENV, ENV, ...) -> (ENV)
+        int[] reorder = new int[args.size() * ENV.length];
+        for (int i = 0; i < reorder.length; i++) reorder[i] = i % ENV.length;
+        return MethodHandles.permuteArguments(result, MethodType.methodType(function.type().returnType(), ENV), reorder);
+    }
+
+    private static MethodHandle test(Node condition, Scope scope) {
+        return MethodHandles.filterReturnValue(expr(condition, scope), TRUTHY);
+    }
+
+    private static MethodHandle bool(Node node, Scope scope) {
+        return MethodHandles.filterReturnValue(test(node, scope),
+                MethodHandles.identity(boolean.class).asType(MethodType.methodType(Object.class, boolean.class)));
+    }
+
+    private static MethodHandle constant(Object value) {
+        return MethodHandles.dropArguments(MethodHandles.constant(Object.class, value), 0, ENV);
+    }
+
+    // -- hidden classes ----------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private static EventListener<AuroraEvent> defineHandler(MethodHandle body, Object[] globals) throws Throwable {
+        MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(HANDLER_TEMPLATE, body, true);
+        debug("Defined handler class %s", hidden.lookupClass().getName());
+        return (EventListener<AuroraEvent>) hidden
+                .findConstructor(hidden.lookupClass(), MethodType.methodType(void.class, Object[].class))
+                .invoke(globals);
+    }
+
+    /// `(Object[] globals, Object[] captures)Runnable` for a new hidden task class running `body`.
+    private static MethodHandle taskFactory(MethodHandle body) throws ReflectiveOperationException {
+        MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(TASK_TEMPLATE, body, true);
+        return hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class, Object[].class, Object[].class))
+                .asType(MethodType.methodType(Runnable.class, Object[].class, Object[].class));
+    }
+
+    private static byte[] template(String resource) {
+        try (InputStream in = ScriptCompiler.class.getResourceAsStream(resource)) {
+            if (in == null) throw new IllegalStateException("Missing compiler template " + resource);
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // -- runtime helpers ---------------------------------------------------
+
+    private static boolean truthy(Object value) {
+        if (value instanceof Boolean b) return b;
+        if (value instanceof Number n) return n.doubleValue() != 0;
+        return value != null;
+    }
+
+    private static Object not(Object value) {
+        return !truthy(value);
+    }
+
+    private static Iterator<?> iterator(Object value) {
+        if (value instanceof Iterable<?> iterable) return iterable.iterator();
+        if (value instanceof Object[] array) return Arrays.asList(array).iterator();
+        throw new IllegalStateException("Cannot iterate over " + (value == null ? "null" : value.getClass().getSimpleName()));
+    }
+}
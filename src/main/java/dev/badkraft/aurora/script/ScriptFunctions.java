@@ -0,0 +1,105 @@
+/// src/main/java/dev/badkraft/aurora/script/ScriptFunctions.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.script;
+
+import dev.badkraft.aurora.mapping.ReflectionMapper;
+import dev.badkraft.aurora.schedule.TickScheduler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static dev.badkraft.aurora.utils.AuroraLogger.info;
+
+/// Functions callable from Aurora scripts, linked at compile time.
+///
+/// Plain functions are any method handle. Contextual functions take the
+/// calling [ScriptModule] as their first parameter; the compiler binds it, so
+/// e.g. `schedule_timer` files its task under the right mod.
+public final class ScriptFunctions {
+    private static final Map<String, MethodHandle> FUNCTIONS = new ConcurrentHashMap<>();
+    private static final Map<String, MethodHandle> CONTEXTUAL = new ConcurrentHashMap<>();
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodType binary = MethodType.methodType(boolean.class, Object.class, Object.class);
+            register("==", lookup.findStatic(Objects.class, "equals", binary));
+            register("!=", lookup.findStatic(ScriptFunctions.class, "notEquals", binary));
+            registerContextual("log", lookup.findStatic(ScriptFunctions.class, "log",
+                    MethodType.methodType(void.class, ScriptModule.class, Object.class)));
+            registerContextual("schedule_timer", lookup.findStatic(ScriptFunctions.class, "scheduleTimer",
+                    MethodType.methodType(Object.class, ScriptModule.class, Object.class, Object.class)));
+            registerContextual("schedule_repeating", lookup.findStatic(ScriptFunctions.class, "scheduleRepeating",
+                    MethodType.methodType(Object.class, ScriptModule.class, Object.class, Object.class, Object.class)));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ScriptFunctions() {}
+
+    public static void register(String name, MethodHandle function) {
+        FUNCTIONS.put(name, function);
+    }
+
+    public static void registerContextual(String name, MethodHandle function) {
+        if (function.type().parameterCount() == 0 || function.type().parameterType(0) != ScriptModule.class) {
+            throw new IllegalArgumentException("Contextual function " + name + " must take ScriptModule first");
+        }
+        CONTEXTUAL.put(name, function);
+    }
+
+    /// Resolves `name` for a call made from `module`; dotted names go to the mapping layer.
+    static MethodHandle resolve(String name, ScriptModule module) {
+        MethodHandle function = FUNCTIONS.get(name);
+        if (function != null) return function;
+        function = CONTEXTUAL.get(name);
+        if (function != null) return MethodHandles.insertArguments(function, 0, module);
+        if (name.indexOf('.') > 0) {
+            function = ReflectionMapper.find(name);
+            if (function != null) return function;
+        }
+        throw new IllegalStateException("Unknown function '" + name + "' in mod " + module.modid());
+    }
+
+    private static boolean notEquals(Object a, Object b) {
+        return !Objects.equals(a, b);
+    }
+
+    private static void log(ScriptModule module, Object message) {
+        info("[%s] %s", module.modid(), message);
+    }
+
+    private static Object scheduleTimer(ScriptModule module, Object delay, Object task) {
+        return TickScheduler.get().schedule(module.modid(), ((Number) delay).longValue(), (Runnable) task);
+    }
+
+    private static Object scheduleRepeating(ScriptModule module, Object delay, Object period, Object task) {
+        return TickScheduler.get().scheduleRepeating(module.modid(),
+                ((Number) delay).longValue(), ((Number) period).longValue(), (Runnable) task);
+    }
+}
@@ -0,0 +1,63 @@
+/// src/main/java/dev/badkraft/aurora/script/ScriptModule.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.script;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// Runtime state of one compiled mod script: its id and the slots backing its
+/// module-level variables. Variables are resolved to array indices at compile
+/// time, so a read in a handler is a constant-index array load.
+public final class ScriptModule {
+    private final String modid;
+    private final Map<String, Integer> slots = new LinkedHashMap<>();
+    private Object[] globals = new Object[8];
+
+    public ScriptModule(String modid) {
+        this.modid = modid;
+    }
+
+    public String modid() {
+        return modid;
+    }
+
+    public Object get(String name) {
+        Integer slot = slots.get(name);
+        return slot != null ? globals[slot] : null;
+    }
+
+    int slot(String name) {
+        return slots.computeIfAbsent(name, n -> {
+            int slot = slots.size();
+            if (slot == globals.length) globals = Arrays.copyOf(globals, slot * 2);
+            return slot;
+        });
+    }
+
+    /// The globals array. Only valid once compilation of the module is finished —
+    /// adding variables may replace it.
+    Object[] globals() {
+        return globals;
+    }
+}
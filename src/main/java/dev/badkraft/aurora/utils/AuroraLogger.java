@@ -22,6 +22,10 @@
 /// SOFTWARE.
 package dev.badkraft.aurora.utils;
 
+import dev.badkraft.aurora.metrics.Metrics;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
@@ -30,6 +34,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.LongAdder;
 
 import static dev.badkraft.aurora.agent.RuntimeAgent.logDir;
 
@@ -52,7 +57,20 @@ public final class AuroraLogger {
 
     private static MethodHandle mcLogHandle = null;
 
+    // lines by level, and lines the log file didn't take (writing is synchronous: there is no queue)
+    private static final LongAdder INFO_LINES = new LongAdder();
+    private static final LongAdder ERROR_LINES = new LongAdder();
+    private static final LongAdder DEBUG_LINES = new LongAdder();
+    private static final LongAdder DROPPED = new LongAdder();
+
     static {
+        Metrics.register(out -> {
+            out.family("aurora_log_lines_total", "counter", "Log lines written, by level");
+            out.sample("aurora_log_lines_total", "level", "info", INFO_LINES.sum());
+            out.sample("aurora_log_lines_total", "level", "error", ERROR_LINES.sum());
+            out.sample("aurora_log_lines_total", "level", "debug", DEBUG_LINES.sum());
+            out.single("aurora_log_dropped_total", "counter", "Log lines that could not be written to the log file", DROPPED.sum());
+        });
         try {
             Files.createDirectories(LOG_FILE.getParent());
             Files.writeString(LOG_FILE, "", StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
@@ -63,14 +81,24 @@ public final class AuroraLogger {
     private AuroraLogger() {}
 
     public static void info(String msg, Object... args) {
+        INFO_LINES.increment();
         log("INFO", msg, args);
     }
 
     public static void error(String msg, Object... args) {
+        ERROR_LINES.increment();
         log("ERROR", msg, args);
     }
 
+    /// Like [#error(String, Object...)], followed by the stack trace of `t`.
+    public static void error(Throwable t, String msg, Object... args) {
+        StringWriter trace = new StringWriter();
+        t.printStackTrace(new PrintWriter(trace));
+        error("%s%n%s", args.length == 0 ? msg : String.format(msg, args), trace.toString().stripTrailing());
+    }
+
     public static void debug(String msg, Object... args) {
+        DEBUG_LINES.increment();
         log("DEBUG", msg, args);
     }
 
@@ -85,7 +113,9 @@ public final class AuroraLogger {
         try {
             Files.writeString(LOG_FILE, line + "\n",
                     StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-        } catch (Exception ignored) {}
+        } catch (Exception e) {
+            DROPPED.increment();
+        }
 
         // 2. Runtime: forward to Minecraft logger if available
         if (mcLogHandle != null) {
@@ -34,6 +34,9 @@ public final class Directories {
     public static final Path ROOT_DIR;
     public static final Path MAPPINGS_DIR;
     public static final Path AURORA_DIR;
+    public static final Path MODS_DIR;
+    public static final Path ASSETS_DIR;
+    public static final Path CACHE_DIR;
     public static final Path RUN_DIR;
     public static final Path DOT_MINECRAFT_DIR = findDotMinecraft();
 
@@ -43,6 +46,9 @@ public final class Directories {
             ROOT_DIR = RUN_DIR.getParent().getParent(); // ../../
             AURORA_DIR = Paths.get(System.getProperty("aurora.dir")).toAbsolutePath().normalize();
             MAPPINGS_DIR = AURORA_DIR.resolve("mappings");
+            MODS_DIR = AURORA_DIR.resolve("mods");
+            ASSETS_DIR = AURORA_DIR.resolve("assets");
+            CACHE_DIR = AURORA_DIR.resolve("cache");
         } catch (Exception e) {
             throw new ExceptionInInitializerError("Failed to initialize directories: " + e);
         }
@@ -59,12 +65,19 @@ public final class Directories {
               Exec Root      → %s
               Mappings       → %s
               Aurora Maps    → %s
+              Mods           → %s
+              Assets         → %s
+              Cache          → %s
               Run Directory  → %s
-            """.formatted(ROOT_DIR, MAPPINGS_DIR, AURORA_DIR, RUN_DIR);
+            """.formatted(ROOT_DIR, MAPPINGS_DIR, AURORA_DIR, MODS_DIR, ASSETS_DIR, CACHE_DIR, RUN_DIR);
     }
 
     private static Path findDotMinecraft() {
-        Path p = Paths.get(System.getProperty("user.home"), ".minecraft");
+        // -Daurora.minecraft.dir points at another install, e.g. a synthetic one
+        String override = System.getProperty("aurora.minecraft.dir");
+        Path p = override != null
+                ? Paths.get(override).toAbsolutePath().normalize()
+                : Paths.get(System.getProperty("user.home"), ".minecraft");
         if (Files.isDirectory(p)) {
             debug(".minecraft contents: %s", Arrays.toString(p.toFile().list()));
             return p;
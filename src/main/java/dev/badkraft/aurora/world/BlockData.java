@@ -0,0 +1,57 @@
+/// src/main/java/dev/badkraft/aurora/world/BlockData.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.world;
+
+import dev.badkraft.aurora.mods.BlockDefinition;
+
+/// The mod data of one block position: which AML block it is, its
+/// `set_block_properties` values and a per-instance `state` word.
+///
+/// Instances are interned by [BlockDataTable]; positions store only the
+/// resulting id, so a million ore blocks with the same values cost one of these.
+public record BlockData(String block, float hardness, float resistance, int luminance, int state) {
+    static final float DEFAULT_STRENGTH = 3.0f;
+
+    /// The block's defaults as its AML script declares them (strength 3, no light if unset).
+    public static BlockData of(BlockDefinition definition) {
+        var properties = definition.properties();
+        return new BlockData(definition.fullId(),
+                parse(properties.get("hardness"), DEFAULT_STRENGTH),
+                parse(properties.get("resistance"), DEFAULT_STRENGTH),
+                (int) parse(properties.get("luminance"), 0),
+                0);
+    }
+
+    public BlockData withState(int state) {
+        return new BlockData(block, hardness, resistance, luminance, state);
+    }
+
+    private static float parse(String value, float fallback) {
+        if (value == null) return fallback;
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/// src/main/java/dev/badkraft/aurora/world/BlockDataTable.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.world;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/// Interns [BlockData] to small int ids and keeps each field in its own
+/// primitive column, so `hardness(id)` is an array load — no boxing, no
+/// record dereference on the tick path. Id 0 is reserved for "no mod data".
+///
+/// Ids are reference-counted by the section palettes that hold them. A
+/// per-position `state` makes every state change a new value, so an id is
+/// freed — and reused by the next [#intern] — once the last palette drops it.
+///
+/// Owned by the server thread together with its [ModBlockStore].
+public final class BlockDataTable {
+    public static final int NONE = 0;
+
+    private final Map<BlockData, Integer> ids = new HashMap<>();
+    private BlockData[] values = new BlockData[16];
+    private float[] hardness = new float[16];
+    private float[] resistance = new float[16];
+    private int[] luminance = new int[16];
+    private int[] state = new int[16];
+    private int[] refs = new int[16];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int size = 1;   // slot 0 is NONE
+
+    /// The id of `data`, added if absent. It lives until every section
+    /// palette that comes to hold it has dropped it again.
+    public int intern(BlockData data) {
+        Integer id = ids.get(data);
+        if (id != null) return id;
+        int next;
+        if (freeCount > 0) {
+            next = free[--freeCount];
+        } else {
+            if (size == values.length) grow();
+            next = size++;
+        }
+        values[next] = data;
+        hardness[next] = data.hardness();
+        resistance[next] = data.resistance();
+        luminance[next] = data.luminance();
+        state[next] = data.state();
+        ids.put(data, next);
+        return next;
+    }
+
+    /// Null for [#NONE].
+    public BlockData get(int id) {
+        return values[id];
+    }
+
+    public float hardness(int id)   { return hardness[id]; }
+    public float resistance(int id) { return resistance[id]; }
+    public int luminance(int id)    { return luminance[id]; }
+    public int state(int id)        { return state[id]; }
+
+    /// Live ids, not counting [#NONE].
+    public int size() {
+        return ids.size();
+    }
+
+    /// A section palette took `id`.
+    void retain(int id) {
+        if (id != NONE) refs[id]++;
+    }
+
+    /// A section palette dropped `id`; the last one frees it.
+    void release(int id) {
+        if (id == NONE || --refs[id] > 0) return;
+        ids.remove(values[id]);
+        values[id] = null;
+        if (freeCount == free.length) free = Arrays.copyOf(free, freeCount * 2);
+        free[freeCount++] = id;
+    }
+
+    private void grow() {
+        int capacity = values.length * 2;
+        values = Arrays.copyOf(values, capacity);
+        hardness = Arrays.copyOf(hardness, capacity);
+        resistance = Arrays.copyOf(resistance, capacity);
+        luminance = Arrays.copyOf(luminance, capacity);
+        state = Arrays.copyOf(state, capacity);
+        refs = Arrays.copyOf(refs, capacity);
+    }
+}
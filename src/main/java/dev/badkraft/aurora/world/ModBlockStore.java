@@ -0,0 +1,288 @@
+/// src/main/java/dev/badkraft/aurora/world/ModBlockStore.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.world;
+
+import java.util.Arrays;
+
+/// Per-position data for mod blocks (hardness, resistance, light, state),
+/// kept off the Java heap.
+///
+/// Each loaded chunk is a column of [PalettedSection]s; a section holds a
+/// small palette of [BlockDataTable] ids and 4096 packed indices in a direct
+/// buffer slot. A section with nothing in it has no slot at all, and a chunk
+/// that unloads hands its slots straight back to the slabs — the heap only
+/// ever sees the palettes and the chunk map.
+///
+/// Lookups are allocation-free: chunks are found through a primitive
+/// `long`-keyed open-addressing table with a one-entry cache in front of it,
+/// and reads never box. Positions outside the loaded chunks or the world's
+/// height read as [BlockDataTable#NONE] (and zero for the column accessors).
+///
+/// Not thread-safe: like the world it mirrors, it belongs to the server thread.
+public final class ModBlockStore {
+    private static final ModBlockStore INSTANCE = new ModBlockStore(-64, 384);
+
+    /// The overworld-shaped store (y −64 to 319).
+    public static ModBlockStore get() {
+        return INSTANCE;
+    }
+
+    /// One [OffHeapSlab] per index width; a section moves between them as its palette grows.
+    static final class Slabs {
+        private final OffHeapSlab[] byBits = new OffHeapSlab[PalettedSection.MAX_BITS + 1];
+
+        OffHeapSlab forBits(int bits) {
+            OffHeapSlab slab = byBits[bits];
+            if (slab == null) {
+                // 4096 entries × bits / 8 bits per byte
+                slab = byBits[bits] = new OffHeapSlab(PalettedSection.ENTRIES / 8 * bits);
+            }
+            return slab;
+        }
+
+        long reservedBytes() {
+            long total = 0;
+            for (OffHeapSlab slab : byBits) if (slab != null) total += slab.reservedBytes();
+            return total;
+        }
+
+        long usedBytes() {
+            long total = 0;
+            for (OffHeapSlab slab : byBits) if (slab != null) total += (long) slab.usedSlots() * slab.slotBytes();
+            return total;
+        }
+    }
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    private final int minY;
+    private final int sections;
+    private final BlockDataTable table = new BlockDataTable();
+    private final Slabs slabs = new Slabs();
+
+    private long[] keys = new long[256];
+    private PalettedSection[][] columns = new PalettedSection[256][];
+    private int chunkCount;
+
+    private long lastKey = EMPTY_KEY;
+    private PalettedSection[] lastColumn;
+
+    public ModBlockStore(int minY, int height) {
+        if (height <= 0 || (height & 15) != 0 || (minY & 15) != 0) {
+            throw new IllegalArgumentException("World bounds must be whole sections: minY=" + minY + " height=" + height);
+        }
+        this.minY = minY;
+        this.sections = height >> 4;
+        Arrays.fill(keys, EMPTY_KEY);
+    }
+
+    public BlockDataTable table() {
+        return table;
+    }
+
+    /// Makes a chunk addressable. Costs one small array until something is stored in it.
+    public void loadChunk(int chunkX, int chunkZ) {
+        long key = key(chunkX, chunkZ);
+        if (find(key) >= 0) return;
+        if ((chunkCount + 1) * 4 > keys.length * 3) rehash(keys.length * 2);
+        int slot = probe(key);
+        keys[slot] = key;
+        columns[slot] = new PalettedSection[sections];
+        chunkCount++;
+    }
+
+    /// Drops a chunk and returns all of its off-heap slots.
+    public void unloadChunk(int chunkX, int chunkZ) {
+        long key = key(chunkX, chunkZ);
+        int slot = find(key);
+        if (slot < 0) return;
+        for (PalettedSection section : columns[slot]) {
+            if (section != null) section.release();
+        }
+        removeAt(slot);
+        chunkCount--;
+        if (lastKey == key) {
+            lastKey = EMPTY_KEY;
+            lastColumn = null;
+        }
+    }
+
+    public boolean isLoaded(int chunkX, int chunkZ) {
+        return find(key(chunkX, chunkZ)) >= 0;
+    }
+
+    public int loadedChunks() {
+        return chunkCount;
+    }
+
+    /// Stores `data` at a position, or clears it when `data` is null.
+    ///
+    /// @throws IllegalStateException if the chunk is not loaded
+    public void set(int x, int y, int z, BlockData data) {
+        // checked before interning, so a rejected write leaves no unreferenced id behind
+        PalettedSection[] column = loadedColumn(x, y, z);
+        store(column, x, y, z, data == null ? BlockDataTable.NONE : table.intern(data));
+    }
+
+    /// Stores an id from [#table] at a position. The id must still be live:
+    /// held at some position, or just returned by [BlockDataTable#intern].
+    public void setId(int x, int y, int z, int id) {
+        store(loadedColumn(x, y, z), x, y, z, id);
+    }
+
+    /// The [BlockDataTable] id at a position; [BlockDataTable#NONE] when there is none.
+    public int id(int x, int y, int z) {
+        int sectionY = (y - minY) >> 4;
+        if (sectionY < 0 || sectionY >= sections) return BlockDataTable.NONE;
+        PalettedSection[] column = column(x >> 4, z >> 4);
+        if (column == null) return BlockDataTable.NONE;
+        PalettedSection section = column[sectionY];
+        return section == null ? BlockDataTable.NONE : section.get(index(x, y, z));
+    }
+
+    public BlockData data(int x, int y, int z) {
+        return table.get(id(x, y, z));
+    }
+
+    public float hardness(int x, int y, int z) {
+        return table.hardness(id(x, y, z));
+    }
+
+    public float resistance(int x, int y, int z) {
+        return table.resistance(id(x, y, z));
+    }
+
+    public int luminance(int x, int y, int z) {
+        return table.luminance(id(x, y, z));
+    }
+
+    public int state(int x, int y, int z) {
+        return table.state(id(x, y, z));
+    }
+
+    /// Direct memory held by live sections.
+    public long offHeapBytes() {
+        return slabs.usedBytes();
+    }
+
+    /// Direct memory reserved by the slabs, including free slots kept for reuse.
+    public long reservedBytes() {
+        return slabs.reservedBytes();
+    }
+
+    private PalettedSection[] loadedColumn(int x, int y, int z) {
+        int sectionY = (y - minY) >> 4;
+        if (sectionY < 0 || sectionY >= sections) {
+            throw new IllegalArgumentException("y out of range: " + y);
+        }
+        PalettedSection[] column = column(x >> 4, z >> 4);
+        if (column == null) {
+            throw new IllegalStateException("Chunk not loaded: " + (x >> 4) + ", " + (z >> 4));
+        }
+        return column;
+    }
+
+    private void store(PalettedSection[] column, int x, int y, int z, int id) {
+        int sectionY = (y - minY) >> 4;
+        PalettedSection section = column[sectionY];
+        if (section == null) {
+            if (id == BlockDataTable.NONE) return;
+            section = column[sectionY] = new PalettedSection(slabs, table);
+        }
+        section.set(index(x, y, z), id);
+        if (section.isEmpty()) {
+            section.release();
+            column[sectionY] = null;
+        }
+    }
+
+    private PalettedSection[] column(int chunkX, int chunkZ) {
+        long key = key(chunkX, chunkZ);
+        if (key == lastKey) return lastColumn;
+        int slot = find(key);
+        if (slot < 0) return null;
+        lastKey = key;
+        lastColumn = columns[slot];
+        return lastColumn;
+    }
+
+    private int index(int x, int y, int z) {
+        return ((y - minY) & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            if (keys[i] == key) return i;
+            if (keys[i] == EMPTY_KEY) return -1;
+        }
+    }
+
+    private int probe(long key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != EMPTY_KEY) i = (i + 1) & mask;
+        return i;
+    }
+
+    /// Linear-probing delete: shift later entries of the run back so no tombstones are needed.
+    private void removeAt(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; keys[i] != EMPTY_KEY; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            // move i into the hole unless its home lies cyclically in (hole, i]
+            boolean stays = hole <= i ? (home > hole && home <= i) : (home > hole || home <= i);
+            if (!stays) {
+                keys[hole] = keys[i];
+                columns[hole] = columns[i];
+                hole = i;
+            }
+        }
+        keys[hole] = EMPTY_KEY;
+        columns[hole] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        PalettedSection[][] oldColumns = columns;
+        keys = new long[capacity];
+        columns = new PalettedSection[capacity][];
+        Arrays.fill(keys, EMPTY_KEY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY_KEY) continue;
+            int slot = probe(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            columns[slot] = oldColumns[i];
+        }
+    }
+}
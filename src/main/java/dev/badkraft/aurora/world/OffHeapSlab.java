@@ -0,0 +1,101 @@
+/// src/main/java/dev/badkraft/aurora/world/OffHeapSlab.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.world;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/// Fixed-size slots carved out of large direct buffers, handed back
+/// explicitly instead of waiting on the garbage collector.
+///
+/// One slab per slot size. A slot is addressed by the buffer it lives in and
+/// its byte offset; freed slots go on a stack and are reused (zeroed) by the
+/// next allocation. Buffers are never returned to the OS — a world that once
+/// loaded N chunks keeps room for N — which is what keeps chunk churn from
+/// turning into direct-memory churn.
+final class OffHeapSlab {
+    /// Bytes per direct buffer; large enough to amortize, small enough not to over-reserve.
+    static final int BUFFER_BYTES = 1 << 20;
+
+    private final int slotBytes;
+    private final int slotsPerBuffer;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private long[] free = new long[64];     // (buffer << 32) | offset
+    private int freeCount;
+    private int used;
+
+    OffHeapSlab(int slotBytes) {
+        this.slotBytes = slotBytes;
+        this.slotsPerBuffer = BUFFER_BYTES / slotBytes;
+    }
+
+    int slotBytes() {
+        return slotBytes;
+    }
+
+    /// A zeroed slot: `(buffer index << 32) | byte offset`.
+    long allocate() {
+        if (freeCount == 0) addBuffer();
+        long slot = free[--freeCount];
+        ByteBuffer buffer = buffer(slot);
+        int offset = offset(slot);
+        for (int i = 0; i < slotBytes; i += Long.BYTES) buffer.putLong(offset + i, 0L);
+        used++;
+        return slot;
+    }
+
+    void release(long slot) {
+        if (freeCount == free.length) free = Arrays.copyOf(free, free.length * 2);
+        free[freeCount++] = slot;
+        used--;
+    }
+
+    ByteBuffer buffer(long slot) {
+        return buffers.get((int) (slot >>> 32));
+    }
+
+    static int offset(long slot) {
+        return (int) slot;
+    }
+
+    int usedSlots() {
+        return used;
+    }
+
+    long reservedBytes() {
+        return (long) buffers.size() * slotsPerBuffer * slotBytes;
+    }
+
+    private void addBuffer() {
+        int index = buffers.size();
+        buffers.add(ByteBuffer.allocateDirect(slotsPerBuffer * slotBytes).order(ByteOrder.nativeOrder()));
+        if (free.length < freeCount + slotsPerBuffer) free = Arrays.copyOf(free, freeCount + slotsPerBuffer);
+        // push in reverse so slots are handed out front to back
+        for (int i = slotsPerBuffer - 1; i >= 0; i--) {
+            free[freeCount++] = ((long) index << 32) | ((long) i * slotBytes);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/// src/main/java/dev/badkraft/aurora/world/PalettedSection.java
+///
+/// Copyright (c) 2025 Quantum Override. All rights reserved.
+/// Author: The Badkraft
+/// Date: October 18, 2026
+///
+/// MIT License
+/// Permission is hereby granted, free of charge, to any person obtaining a copy
+/// of this software and associated documentation files (the "Software"), to deal
+/// in the Software without restriction, including without limitation the rights
+/// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+/// copies of the Software, and to permit persons to whom the Software is
+/// furnished to do so, subject to the following conditions:
+/// The above copyright notice and this permission notice shall be included in all
+/// copies or substantial portions of the Software.
+/// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+/// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+/// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+/// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+/// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+/// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+/// SOFTWARE.
+package dev.badkraft.aurora.world;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/// One 16×16×16 section of mod block data: a palette of [BlockDataTable] ids
+/// and 4096 bit-packed palette indices in an [OffHeapSlab] slot.
+///
+/// As in vanilla's paletted containers, indices never straddle a `long`;
+/// widths are kept to powers of two (1, 2, 4, 8, 16 bits) so locating an
+/// entry is a shift and a mask. When the palette fills up, values no
+/// position uses any more are dropped first; the width doubles only if that
+/// leaves less than half the palette free. Palette slot 0 is always
+/// [BlockDataTable#NONE], so a fresh (zeroed) slot reads as "no data"
+/// everywhere. Each palette entry holds a reference on its table id.
+final class PalettedSection {
+    static final int ENTRIES = 16 * 16 * 16;
+    static final int MAX_BITS = 16;
+
+    private final ModBlockStore.Slabs slabs;
+    private final BlockDataTable table;
+    private int[] palette = new int[2];
+    private int paletteSize = 1;
+    private int bits;
+    private int mask;
+    private int perLongShift;   // log2(entries per long)
+    private long slot;
+    private ByteBuffer buffer;
+    private int base;
+    private int nonEmpty;
+
+    PalettedSection(ModBlockStore.Slabs slabs, BlockDataTable table) {
+        this.slabs = slabs;
+        this.table = table;
+        resize(1);
+    }
+
+    /// The table id at `index` (`y << 8 | z << 4 | x`). Allocation-free.
+    int get(int index) {
+        long word = buffer.getLong(base + ((index >>> perLongShift) << 3));
+        int local = (int) (word >>> ((index & ((1 << perLongShift) - 1)) * bits)) & mask;
+        return palette[local];
+    }
+
+    /// Stores `id` at `index`; returns the id that was there.
+    int set(int index, int id) {
+        int local = localIndex(id);
+        int previous = palette[read(index)];
+        write(index, local);
+        if (previous == BlockDataTable.NONE && id != BlockDataTable.NONE) nonEmpty++;
+        else if (previous != BlockDataTable.NONE && id == BlockDataTable.NONE) nonEmpty--;
+        return previous;
+    }
+
+    /// True once every entry is back to "no data"; the owner can then [#release] it.
+    boolean isEmpty() {
+        return nonEmpty == 0;
+    }
+
+    int paletteSize() {
+        return paletteSize;
+    }
+
+    int bits() {
+        return bits;
+    }
+
+    /// Returns the off-heap slot and the palette's table ids. The section must not be used afterwards.
+    void release() {
+        for (int i = 1; i < paletteSize; i++) table.release(palette[i]);
+        slabs.forBits(bits).release(slot);
+        buffer = null;
+    }
+
+    private int localIndex(int id) {
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i] == id) return i;
+        }
+        if (paletteSize == 1 << bits) {
+            compact();
+            // half free keeps the next compaction at least as many new values away
+            if (paletteSize > 1 << (bits - 1) && bits < MAX_BITS) resize(bits * 2);
+            // 4096 positions never use more than 4097 values, well under 1 << MAX_BITS
+            if (paletteSize == 1 << bits) throw new IllegalStateException("Section palette full: " + paletteSize + " distinct values");
+        }
+        if (paletteSize == palette.length) palette = Arrays.copyOf(palette, palette.length * 2);
+        palette[paletteSize] = id;
+        table.retain(id);
+        return paletteSize++;
+    }
+
+    /// Drops palette entries no position refers to and renumbers the rest in place.
+    private void compact() {
+        boolean[] used = new boolean[paletteSize];
+        used[0] = true;
+        for (int i = 0; i < ENTRIES; i++) used[read(i)] = true;
+        int[] remap = new int[paletteSize];
+        int live = 0;
+        for (int local = 0; local < paletteSize; local++) {
+            if (used[local]) {
+                remap[local] = live;
+                palette[live++] = palette[local];
+            } else {
+                table.release(palette[local]);
+            }
+        }
+        if (live == paletteSize) return;
+        for (int i = 0; i < ENTRIES; i++) {
+            int local = read(i);
+            if (remap[local] != local) write(i, remap[local]);
+        }
+        paletteSize = live;
+    }
+
+    private int read(int index) {
+        long word = buffer.getLong(base + ((index >>> perLongShift) << 3));
+        return (int) (word >>> ((index & ((1 << perLongShift) - 1)) * bits)) & mask;
+    }
+
+    private void write(int index, int local) {
+        int at = base + ((index >>> perLongShift) << 3);
+        int shift = (index & ((1 << perLongShift) - 1)) * bits;
+        long word = buffer.getLong(at);
+        word = (word & ~((long) mask << shift)) | ((long) local << shift);
+        buffer.putLong(at, word);
+    }
+
+    /// Moves the indices to a slot `newBits` wide and frees the old one.
+    private void resize(int newBits) {
+        OffHeapSlab slab = slabs.forBits(newBits);
+        long newSlot = slab.allocate();
+        ByteBuffer oldBuffer = buffer;
+        int oldBits = bits;
+        long oldSlot = slot;
+        int[] old = null;
+        if (oldBuffer != null) {
+            old = new int[ENTRIES];
+            for (int i = 0; i < ENTRIES; i++) old[i] = read(i);
+        }
+        slot = newSlot;
+        buffer = slab.buffer(newSlot);
+        base = OffHeapSlab.offset(newSlot);
+        bits = newBits;
+        mask = (1 << newBits) - 1;
+        perLongShift = Integer.numberOfTrailingZeros(Long.SIZE / newBits);
+        if (old != null) {
+            for (int i = 0; i < ENTRIES; i++) if (old[i] != 0) write(i, old[i]);
+            slabs.forBits(oldBits).release(oldSlot);
+        }
+    }
+}